@@ -0,0 +1,64 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingView;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// the in-memory half of BookingServiceImpl.findPage: state parsing, cursor round trip and page assembly.
+// the state filter itself runs in SQL (BookingSpecifications), so there is no per-row filtering left to measure
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingPageBenchmark {
+
+    @Param({"ALL", "current", "FUTURE", "REJECTED"})
+    public String state;
+
+    @Param({"10", "100"})
+    public int size;
+
+    private List<BookingView> rows;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        // findViews fetches size + 1 rows to detect the next page
+        rows = Fixtures.views(size + 1);
+        cursor = BookingCursor.of(rows.get(size / 2)).encode();
+    }
+
+    @Benchmark
+    public BookingState parseState() {
+        return BookingState.from(state);
+    }
+
+    @Benchmark
+    public BookingCursor decodeCursor() {
+        return BookingCursor.decode(cursor);
+    }
+
+    @Benchmark
+    public BookingPageDto assemblePage() {
+        BookingState.from(state);
+        return BookingMapper.toPageDto(rows, size);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// detached entities shaped like the ones the services map; no persistence context involved
+final class Fixtures {
+
+    static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder().id(id).name("User " + id).email("user" + id + "@mail.com").build();
+    }
+
+    static ItemRequest request(long id) {
+        return ItemRequest.builder()
+                .id(id)
+                .description("Need a power drill for the weekend, request " + id)
+                .requesterId(id + 1)
+                .created(BASE.minusDays(id % 30))
+                .build();
+    }
+
+    static Item item(long id) {
+        return Item.builder()
+                .id(id)
+                .name("Drill " + id)
+                .description("Cordless power drill with two batteries, item " + id)
+                .available(id % 5 != 0)
+                .owner(user(id % 100 + 1))
+                .request(id % 3 == 0 ? request(id) : null)
+                .build();
+    }
+
+    static Booking booking(long id) {
+        Item item = item(id % 1000 + 1);
+        return Booking.builder()
+                .id(id)
+                .start(BASE.plusHours(id))
+                .end(BASE.plusHours(id + 3))
+                .item(item)
+                .booker(user(id % 50 + 101))
+                .status(BookingStatus.values()[(int) (id % BookingStatus.values().length)])
+                .build();
+    }
+
+    static BookingView view(long id) {
+        Booking booking = booking(id);
+        return new BookingView(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                booking.getBooker().getId(), booking.getItem().getId(), booking.getItem().getName());
+    }
+
+    static Comment comment(long id) {
+        return Comment.builder()
+                .id(id)
+                .text("Worked fine, battery lasted all day, comment " + id)
+                .item(item(id % 1000 + 1))
+                .author(user(id % 50 + 101))
+                .created(BASE.plusMinutes(id))
+                .build();
+    }
+
+    static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            items.add(item(id));
+        }
+        return items;
+    }
+
+    static List<Booking> bookings(int size) {
+        List<Booking> bookings = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            bookings.add(booking(id));
+        }
+        return bookings;
+    }
+
+    static List<BookingView> views(int size) {
+        List<BookingView> views = new ArrayList<>(size);
+        for (long id = size; id >= 1; id--) {
+            views.add(view(id));
+        }
+        return views;
+    }
+}
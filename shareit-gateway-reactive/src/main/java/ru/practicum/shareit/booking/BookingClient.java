@@ -0,0 +1,58 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class BookingClient extends BaseClient {
+
+    private static final String API_PREFIX = "/bookings";
+
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(Long userId, BookingDto dto) {
+        return post("", userId, dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> approve(Long ownerId, Long bookingId, boolean approved) {
+        return patch("/" + bookingId + "?approved={approved}", ownerId, Map.of("approved", approved), null);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(Long userId, Long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByUser(Long userId, String state, String cursor,
+                                                               Integer size) {
+        return getPage("", userId, state, cursor, size);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByOwner(Long ownerId, String state, String cursor,
+                                                                Integer size) {
+        return getPage("/owner", ownerId, state, cursor, size);
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> getPage(String path, Long userId, String state, String cursor,
+                                                           Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("size", size);
+        String query = "?state={state}&size={size}";
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get(path + query, userId, parameters);
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDto {
+
+    @NotNull(message = "Start time cannot be null")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime start;
+
+    @NotNull(message = "End time cannot be null")
+    @Future(message = "End time must be in the future")
+    private LocalDateTime end;
+
+    @NotNull(message = "Item ID cannot be null")
+    private Long itemId;
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+// relays the server's response as a stream of buffers: nothing is parsed or held in full, and the body is pulled
+// from the server only as fast as the gateway's client reads it
+public class BaseClient {
+    private static final List<String> PASS_THROUGH_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, "X-Next-Cursor");
+
+    protected final WebClient web;
+
+    public BaseClient(WebClient web) {
+        this.web = web;
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> get(String path) {
+        return get(path, null, Map.of());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, long userId) {
+        return get(path, userId, Map.of());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, Long userId, Map<String, ?> parameters) {
+        return exchange(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, Object body) {
+        return exchange(HttpMethod.POST, path, null, Map.of(), body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, long userId, Object body) {
+        return exchange(HttpMethod.POST, path, userId, Map.of(), body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, Object body) {
+        return exchange(HttpMethod.PATCH, path, null, Map.of(), body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, long userId, Object body) {
+        return exchange(HttpMethod.PATCH, path, userId, Map.of(), body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, Long userId, Map<String, ?> parameters,
+                                                         @Nullable Object body) {
+        return exchange(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(String path) {
+        return exchange(HttpMethod.DELETE, path, null, Map.of(), null);
+    }
+
+    // forwards the request body buffer by buffer as it arrives instead of binding it
+    public Mono<ResponseEntity<Flux<DataBuffer>>> postStream(String path, long userId, MediaType contentType,
+                                                             Flux<DataBuffer> body) {
+        return relay(web.post()
+                .uri(path)
+                .headers(headers -> {
+                    headers.setContentType(contentType);
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                    headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                })
+                .body(BodyInserters.fromDataBuffers(body)));
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                            Map<String, ?> parameters, @Nullable Object body) {
+        WebClient.RequestBodySpec request = web.method(method)
+                .uri(path, parameters)
+                .headers(headers -> {
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                    if (userId != null) {
+                        headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                    }
+                });
+        return relay(body != null ? request.contentType(MediaType.APPLICATION_JSON).bodyValue(body) : request);
+    }
+
+    private static Mono<ResponseEntity<Flux<DataBuffer>>> relay(WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve()
+                // error statuses are relayed to the caller like any other response instead of being raised
+                .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> new ResponseEntity<>(response.getBody(), passThroughHeaders(response.getHeaders()),
+                        response.getStatusCode()));
+    }
+
+    private static HttpHeaders passThroughHeaders(HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : PASS_THROUGH_HEADERS) {
+            List<String> values = serverHeaders.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentDto {
+    @NotBlank(message = "Comment text must not be blank")
+    private String text;
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class ItemClient extends BaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(Long ownerId, ItemDto dto) {
+        return post("", ownerId, dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(Long ownerId, MediaType contentType,
+                                                              Flux<DataBuffer> body) {
+        return postStream("/bulk", ownerId, contentType, body);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long itemId, Long ownerId, ItemDto dto) {
+        return patch("/" + itemId, ownerId, dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(Long itemId, Long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getCalendar(Long itemId, LocalDateTime from, LocalDateTime to) {
+        return get("/" + itemId + "/calendar?from={from}&to={to}", null, Map.of("from", from, "to", to));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getByOwner(Long ownerId) {
+        return get("", ownerId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(String text, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("size", size);
+        String query = "?text={text}&size={size}";
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get("/search" + query, null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchAvailable(LocalDateTime start, LocalDateTime end,
+                                                                  String text, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("start", start);
+        parameters.put("end", end);
+        parameters.put("size", size);
+        String query = "?start={start}&end={end}&size={size}";
+        if (text != null) {
+            parameters.put("text", text);
+            query += "&text={text}";
+        }
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get("/available" + query, null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(Long userId, Long itemId, CommentDto commentDto) {
+        return post("/" + itemId + "/comment", userId, commentDto);
+    }
+}
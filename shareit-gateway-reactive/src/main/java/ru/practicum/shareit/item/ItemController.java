@@ -0,0 +1,112 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.error.BadRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Validated
+public class ItemController {
+
+    private final ItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @Valid @RequestBody ItemDto itemDto
+    ) {
+        return itemClient.create(ownerId, itemDto);
+    }
+
+    // rows are validated by the server per row, so the body is passed through without being parsed here
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            ServerHttpRequest request
+    ) {
+        return itemClient.importItems(ownerId, request.getHeaders().getContentType(), request.getBody());
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @PathVariable Long id,
+            @RequestBody ItemDto itemDto
+    ) {
+        return itemClient.update(id, ownerId, itemDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(
+            @PathVariable Long id,
+            @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        return itemClient.getById(id, userId);
+    }
+
+    @GetMapping("/{id}/calendar")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        if (!from.isBefore(to)) {
+            return Mono.error(new BadRequestException("From must be before to"));
+        }
+        return itemClient.getCalendar(id, from, to);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getByOwner(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId
+    ) {
+        return itemClient.getByOwner(ownerId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> search(
+            @RequestParam String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size
+    ) {
+        return itemClient.search(text, cursor, size);
+    }
+
+    @GetMapping("/available")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size
+    ) {
+        if (!start.isBefore(end)) {
+            return Mono.error(new BadRequestException("Start must be before end"));
+        }
+        return itemClient.searchAvailable(start, end, text, cursor, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable Long itemId,
+            @RequestBody CommentDto commentDto
+    ) {
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+@Service
+public class ItemRequestClient extends BaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(Long userId, ItemRequestDto dto) {
+        return post("", userId, dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwn(Long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(Long userId) {
+        return get("/all", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(Long userId, Long requestId) {
+        return get("/" + requestId, userId);
+    }
+}
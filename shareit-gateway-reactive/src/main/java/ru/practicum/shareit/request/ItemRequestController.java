@@ -0,0 +1,41 @@
+package ru.practicum.shareit.request;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/requests")
+@RequiredArgsConstructor
+public class ItemRequestController {
+
+    private final ItemRequestClient requestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @Valid @RequestBody ItemRequestDto dto) {
+        return requestClient.create(userId, dto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwn(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return requestClient.getOwn(userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return requestClient.getAll(userId);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @PathVariable("requestId") Long requestId) {
+        return requestClient.getById(userId, requestId);
+    }
+}
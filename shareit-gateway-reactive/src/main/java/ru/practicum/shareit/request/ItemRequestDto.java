@@ -0,0 +1,24 @@
+package ru.practicum.shareit.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemRequestDto {
+    private Long id;
+
+    @NotBlank(message = "Description must not be blank")
+    private String description;
+
+    private Long requesterId;
+
+    private LocalDateTime created;
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+@Service
+public class UserClient extends BaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllUsers() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUserById(long id) {
+        return get("/" + id);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createUser(UserDto dto) {
+        return post("", dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateUser(long id, UserDto dto) {
+        return patch("/" + id, dto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteUser(long id) {
+        return delete("/" + id);
+    }
+}
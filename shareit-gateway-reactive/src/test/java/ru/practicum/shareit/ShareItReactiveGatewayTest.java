@@ -0,0 +1,162 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// end to end through the controllers and the pooled WebClient against a stub shareit-server
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ShareItReactiveGatewayTest {
+
+    private static final byte[] OK = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NOT_FOUND = "{\"error\":\"Booking not found\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer server;
+    private static final List<String> requests = new CopyOnWriteArrayList<>();
+    private static final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+    @Autowired
+    private WebTestClient web;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String request = exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                    + " user=" + exchange.getRequestHeaders().getFirst("X-Sharer-User-Id");
+            requests.add(request);
+            bodies.put(request, exchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_TYPE) + " "
+                    + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            boolean missing = exchange.getRequestURI().getPath().equals("/bookings/404");
+            byte[] body = missing ? NOT_FOUND : OK;
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(missing ? 404 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry properties) {
+        properties.add("shareit-server.url", () -> "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @BeforeEach
+    void clear() {
+        requests.clear();
+        bodies.clear();
+    }
+
+    @Test
+    void shouldProxyEveryResource() {
+        web.get().uri("/users/7").exchange().expectStatus().isOk().expectBody().json("{\"id\":1}");
+        web.get().uri("/items/3").header("X-Sharer-User-Id", "7").exchange().expectStatus().isOk();
+        web.get().uri("/bookings/owner?state=FUTURE&size=5").header("X-Sharer-User-Id", "7").exchange()
+                .expectStatus().isOk();
+        web.get().uri("/requests/all").header("X-Sharer-User-Id", "7").exchange().expectStatus().isOk();
+
+        assertEquals(List.of(
+                "GET /users/7 user=null",
+                "GET /items/3 user=7",
+                "GET /bookings/owner?state=FUTURE&size=5 user=7",
+                "GET /requests/all user=7"), requests);
+    }
+
+    @Test
+    void shouldRelayServerErrorsWithTheirBody() {
+        web.get().uri("/bookings/404").header("X-Sharer-User-Id", "7").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("Booking not found");
+    }
+
+    @Test
+    void shouldForwardValidBodyAsJson() {
+        web.post().uri("/users").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Ann\",\"email\":\"ann@mail.ru\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals(List.of("POST /users user=null"), requests);
+        assertTrue(bodies.get("POST /users user=null").contains("\"email\":\"ann@mail.ru\""));
+    }
+
+    @Test
+    void shouldRejectInvalidBodyWithoutCallingServer() {
+        web.post().uri("/users").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"\",\"email\":\"not-an-email\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").exists();
+
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidParametersWithoutCallingServer() {
+        web.get().uri("/bookings?size=0").header("X-Sharer-User-Id", "7").exchange()
+                .expectStatus().isBadRequest();
+        web.get().uri("/items/available?start=2030-01-02T00:00:00&end=2030-01-01T00:00:00").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Start must be before end");
+        web.get().uri("/items/1/calendar?from=2030-01-02T00:00:00&to=2030-01-01T00:00:00").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("From must be before to");
+        web.get().uri("/items").exchange()
+                .expectStatus().isBadRequest();
+
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void shouldStreamBulkImportUnparsed() {
+        String rows = "{\"name\":\"Drill\"}\nnot json\n";
+
+        web.post().uri("/items/bulk").header("X-Sharer-User-Id", "4")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(rows)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE + " " + rows, bodies.get("POST /items/bulk user=4"));
+    }
+
+    @Test
+    void shouldExportConnectionPoolMetrics() {
+        web.get().uri("/users/7").exchange().expectStatus().isOk();
+
+        web.get().uri("/actuator/prometheus").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(scrape -> {
+                    assertTrue(scrape.contains("reactor_netty_connection_provider_total_connections{"));
+                    assertTrue(scrape.contains("http_client_requests_seconds_bucket{"));
+                });
+    }
+}
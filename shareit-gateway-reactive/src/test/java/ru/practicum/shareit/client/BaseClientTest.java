@@ -0,0 +1,143 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private HttpServer server;
+    private BaseClient client;
+    private final AtomicReference<String> requestLine = new AtomicReference<>();
+    private final AtomicReference<HttpHeaders> requestHeaders = new AtomicReference<>();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestLine.set(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+            HttpHeaders headers = new HttpHeaders();
+            exchange.getRequestHeaders().forEach(headers::put);
+            requestHeaders.set(headers);
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+            boolean missing = exchange.getRequestURI().getPath().endsWith("/404");
+            byte[] body = (missing ? "{\"error\":\"Not found\"}" : "{\"id\":1}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.getResponseHeaders().set("X-Next-Cursor", "abc");
+            exchange.getResponseHeaders().set("X-Internal", "secret");
+            exchange.sendResponseHeaders(missing ? 404 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        client = new BaseClient(WebClient.create("http://localhost:" + server.getAddress().getPort() + "/items"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void get_shouldRelayBodyAndPassThroughHeadersOnly() {
+        ResponseEntity<Flux<DataBuffer>> response = client.get("/1", 7L).block(TIMEOUT);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("{\"id\":1}", body(response));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertNull(response.getHeaders().getFirst("X-Internal"));
+        assertEquals("GET /items/1", requestLine.get());
+        assertEquals("7", requestHeaders.get().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void get_shouldRelayErrorStatusInsteadOfFailing() {
+        ResponseEntity<Flux<DataBuffer>> response = client.get("/404").block(TIMEOUT);
+
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals("{\"error\":\"Not found\"}", body(response));
+        assertNull(requestHeaders.get().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void get_shouldExpandAndEncodeParameters() {
+        client.get("/search?text={text}", null, Map.of("text", "drill & saw")).block(TIMEOUT).getBody()
+                .blockLast(TIMEOUT);
+
+        assertEquals("GET /items/search?text=drill%20%26%20saw", requestLine.get());
+    }
+
+    @Test
+    void post_shouldSendJsonBody() {
+        client.post("", 3L, Map.of("name", "Drill")).block(TIMEOUT).getBody().blockLast(TIMEOUT);
+
+        assertEquals("POST /items", requestLine.get());
+        assertEquals(MediaType.APPLICATION_JSON, requestHeaders.get().getContentType());
+        assertEquals("{\"name\":\"Drill\"}", requestBody.get());
+    }
+
+    @Test
+    void patch_withoutBody_shouldSendParametersOnly() {
+        client.patch("/5?approved={approved}", 2L, Map.of("approved", true), null).block(TIMEOUT).getBody()
+                .blockLast(TIMEOUT);
+
+        assertEquals("PATCH /items/5?approved=true", requestLine.get());
+        assertEquals("", requestBody.get());
+    }
+
+    @Test
+    void postStream_shouldForwardBuffersWithContentType() {
+        DefaultDataBufferFactory buffers = DefaultDataBufferFactory.sharedInstance;
+        Flux<DataBuffer> rows = Flux.just("{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n")
+                .map(row -> buffers.wrap(row.getBytes(StandardCharsets.UTF_8)));
+
+        client.postStream("/bulk", 4L, MediaType.APPLICATION_NDJSON, rows).block(TIMEOUT).getBody()
+                .blockLast(TIMEOUT);
+
+        assertEquals("POST /items/bulk", requestLine.get());
+        assertEquals(MediaType.APPLICATION_NDJSON, requestHeaders.get().getContentType());
+        assertEquals("4", requestHeaders.get().getFirst("X-Sharer-User-Id"));
+        assertEquals("{\"name\":\"a\"}\n{\"name\":\"b\"}\n", requestBody.get());
+    }
+
+    @Test
+    void delete_shouldRelayResponse() {
+        ResponseEntity<Flux<DataBuffer>> response = client.delete("/9").block(TIMEOUT);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("DELETE /items/9", requestLine.get());
+    }
+
+    private static String body(ResponseEntity<Flux<DataBuffer>> response) {
+        return DataBufferUtils.join(response.getBody())
+                .map(buffer -> {
+                    String text = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return text;
+                })
+                .block(TIMEOUT);
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // same switch as the server's JacksonConfig; here it covers the bodies bound and sent to the server
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Jackson2ObjectMapperBuilderCustomizer sharedBufferRecyclerPool() {
+        return builder -> builder.postConfigurer(mapper ->
+                mapper.getFactory().setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool()));
+    }
+}
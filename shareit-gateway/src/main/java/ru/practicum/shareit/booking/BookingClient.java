@@ -2,70 +2,54 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class BookingClient extends BaseClient {
 
     private static final String API_PREFIX = "/bookings";
-    private final String serverUrl;
 
     public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
         super(builder
-                .uriTemplateHandler(new org.springframework.web.util.DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                 .build());
-        this.serverUrl = serverUrl;
     }
 
     public ResponseEntity<Object> create(Long userId, BookingDto dto) {
-        HttpEntity<Object> request = HttpUtils.makeRequest(dto, userId);
-        try {
-            return rest.postForEntity(serverUrl + API_PREFIX, request, Object.class);
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity
-                    .status(e.getStatusCode())
-                    .body(e.getResponseBodyAsString());
-        }
+        return post("", userId, dto);
     }
 
     public ResponseEntity<Object> approve(Long ownerId, Long bookingId, boolean approved) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl(serverUrl + API_PREFIX + "/" + bookingId)
-                .queryParam("approved", approved)
-                .toUriString();
-
-        return rest.exchange(url, HttpMethod.PATCH, HttpUtils.makeRequest(null, ownerId), Object.class);
+        return patch("/" + bookingId + "?approved={approved}", ownerId, Map.of("approved", approved), null);
     }
 
     public ResponseEntity<Object> getById(Long userId, Long bookingId) {
-        return rest.exchange(
-                serverUrl + API_PREFIX + "/" + bookingId,
-                HttpMethod.GET,
-                HttpUtils.makeRequest(null, userId),
-                Object.class);
+        return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllByUser(Long userId, String state) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl(serverUrl + API_PREFIX)
-                .queryParam("state", state)
-                .toUriString();
-
-        return rest.exchange(url, HttpMethod.GET, HttpUtils.makeRequest(null, userId), Object.class);
+    public ResponseEntity<Object> getAllByUser(Long userId, String state, String cursor, Integer size) {
+        return getPage("", userId, state, cursor, size);
     }
 
-    public ResponseEntity<Object> getAllByOwner(Long ownerId, String state) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl(serverUrl + API_PREFIX + "/owner")
-                .queryParam("state", state)
-                .toUriString();
+    public ResponseEntity<Object> getAllByOwner(Long ownerId, String state, String cursor, Integer size) {
+        return getPage("/owner", ownerId, state, cursor, size);
+    }
 
-        return rest.exchange(url, HttpMethod.GET, HttpUtils.makeRequest(null, ownerId), Object.class);
+    private ResponseEntity<Object> getPage(String path, Long userId, String state, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("size", size);
+        String query = "?state={state}&size={size}";
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get(path + query, userId, parameters);
     }
-}
\ No newline at end of file
+}
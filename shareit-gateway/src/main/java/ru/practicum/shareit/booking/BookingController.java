@@ -1,13 +1,17 @@
 package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
+@Validated
 public class BookingController {
 
     private final BookingClient bookingClient;
@@ -40,16 +44,20 @@ public class BookingController {
     @GetMapping
     public ResponseEntity<Object> getAllByUser(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-            @RequestParam(defaultValue = "ALL") String state) {
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size) {
 
-        return bookingClient.getAllByUser(userId, state);
+        return bookingClient.getAllByUser(userId, state, cursor, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllByOwner(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
-            @RequestParam(defaultValue = "ALL") String state) {
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size) {
 
-        return bookingClient.getAllByOwner(ownerId, state);
+        return bookingClient.getAllByOwner(ownerId, state, cursor, size);
     }
 }
\ No newline at end of file
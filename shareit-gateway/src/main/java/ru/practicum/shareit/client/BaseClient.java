@@ -1,16 +1,26 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.metrics.UpstreamTiming;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class BaseClient {
+    private static final List<String> PASS_THROUGH_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, "X-Next-Cursor");
+
     protected final RestTemplate rest;
 
+    @Value("${shareit-server.pass-through:false}")
+    private boolean passThrough;
+
     public BaseClient(RestTemplate rest) {
         this.rest = rest;
     }
@@ -75,16 +85,36 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    // forwards the request body as it arrives instead of binding it; the response is relayed as raw bytes
+    public ResponseEntity<Object> postStream(String path, long userId, MediaType contentType, InputStream body) {
+        try {
+            return timed(() -> rest.execute(path, HttpMethod.POST, request -> {
+                HttpHeaders headers = request.getHeaders();
+                headers.setContentType(contentType);
+                headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                if (request instanceof StreamingHttpOutputMessage streaming) {
+                    streaming.setBody(body::transferTo);
+                } else {
+                    body.transferTo(request.getBody());
+                }
+            }, response -> relay(response.getStatusCode(), response.getHeaders(), response.getBody().readAllBytes())));
+        } catch (HttpStatusCodeException e) {
+            return relay(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        if (passThrough) {
+            return sendPassThrough(method, path, parameters, requestEntity);
+        }
 
         ResponseEntity<Object> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = timed(() -> parameters != null
+                    ? rest.exchange(path, method, requestEntity, Object.class, parameters)
+                    : rest.exchange(path, method, requestEntity, Object.class));
         } catch (HttpStatusCodeException e) {
             return ResponseEntity
                     .status(e.getStatusCode())
@@ -93,6 +123,45 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    // relays the server's bytes as-is; request validation has already happened in the controller
+    private <T> ResponseEntity<Object> sendPassThrough(HttpMethod method, String path,
+                                                       @Nullable Map<String, Object> parameters,
+                                                       HttpEntity<T> requestEntity) {
+        ResponseEntity<byte[]> response;
+        try {
+            response = timed(() -> parameters != null
+                    ? rest.exchange(path, method, requestEntity, byte[].class, parameters)
+                    : rest.exchange(path, method, requestEntity, byte[].class));
+        } catch (HttpStatusCodeException e) {
+            return relay(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+        return relay(response.getStatusCode(), response.getHeaders(), response.getBody());
+    }
+
+    // error responses arrive as exceptions and still count as time spent upstream
+    private static <R> R timed(Supplier<R> call) {
+        long started = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            UpstreamTiming.record(System.nanoTime() - started);
+        }
+    }
+
+    private static ResponseEntity<Object> relay(HttpStatusCode status, @Nullable HttpHeaders serverHeaders,
+                                                @Nullable byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            for (String name : PASS_THROUGH_HEADERS) {
+                List<String> values = serverHeaders.get(name);
+                if (values != null) {
+                    headers.put(name, values);
+                }
+            }
+        }
+        return new ResponseEntity<>(body, headers, status);
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
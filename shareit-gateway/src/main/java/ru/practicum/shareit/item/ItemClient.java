@@ -2,10 +2,16 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class ItemClient extends BaseClient {
 
@@ -25,6 +31,10 @@ public class ItemClient extends BaseClient {
         return post("", ownerId, dto);
     }
 
+    public ResponseEntity<Object> importItems(Long ownerId, MediaType contentType, InputStream body) {
+        return postStream("/bulk", ownerId, contentType, body);
+    }
+
     public ResponseEntity<Object> update(Long itemId, Long ownerId, ItemDto dto) {
         return patch("/" + itemId, ownerId, dto);
     }
@@ -33,12 +43,42 @@ public class ItemClient extends BaseClient {
         return get("/" + itemId, userId);
     }
 
+    public ResponseEntity<Object> getCalendar(Long itemId, LocalDateTime from, LocalDateTime to) {
+        return get("/" + itemId + "/calendar?from={from}&to={to}", null, Map.of("from", from, "to", to));
+    }
+
     public ResponseEntity<Object> getByOwner(Long ownerId) {
         return get("", ownerId);
     }
 
-    public ResponseEntity<Object> search(String text) {
-        return get("/search?text=" + text);
+    public ResponseEntity<Object> search(String text, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("size", size);
+        String query = "?text={text}&size={size}";
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get("/search" + query, null, parameters);
+    }
+
+    public ResponseEntity<Object> searchAvailable(LocalDateTime start, LocalDateTime end, String text,
+                                                  String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("start", start);
+        parameters.put("end", end);
+        parameters.put("size", size);
+        String query = "?start={start}&end={end}&size={size}";
+        if (text != null) {
+            parameters.put("text", text);
+            query += "&text={text}";
+        }
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query += "&cursor={cursor}";
+        }
+        return get("/available" + query, null, parameters);
     }
 
     public ResponseEntity<Object> addComment(Long userId, Long itemId, CommentDto commentDto) {
@@ -1,13 +1,24 @@
 package ru.practicum.shareit.item;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.error.BadRequestException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
+@Validated
 public class ItemController {
 
     private final ItemClient itemClient;
@@ -20,6 +31,16 @@ public class ItemController {
         return itemClient.create(ownerId, itemDto);
     }
 
+    // rows are validated by the server per row, so the body is passed through without being parsed here
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Object> importItems(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            HttpServletRequest request
+    ) throws IOException {
+        return itemClient.importItems(ownerId, MediaType.parseMediaType(request.getContentType()),
+                request.getInputStream());
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Object> update(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
@@ -37,6 +58,18 @@ public class ItemController {
         return itemClient.getById(id, userId);
     }
 
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<Object> getCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("From must be before to");
+        }
+        return itemClient.getCalendar(id, from, to);
+    }
+
     @GetMapping
     public ResponseEntity<Object> getByOwner(
             @RequestHeader("X-Sharer-User-Id") Long ownerId
@@ -46,9 +79,25 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> search(
-            @RequestParam String text
+            @RequestParam String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size
+    ) {
+        return itemClient.search(text, cursor, size);
+    }
+
+    @GetMapping("/available")
+    public ResponseEntity<Object> searchAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Positive @Max(1000) Integer size
     ) {
-        return itemClient.search(text);
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("Start must be before end");
+        }
+        return itemClient.searchAvailable(start, end, text, cursor, size);
     }
 
     @PostMapping("/{itemId}/comment")
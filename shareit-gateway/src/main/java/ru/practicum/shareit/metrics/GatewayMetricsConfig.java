@@ -0,0 +1,20 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// registered here rather than as a @Component so @WebMvcTest slices, which have no MeterRegistry, skip it
+@Configuration
+public class GatewayMetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<GatewayMetricsFilter> gatewayMetricsFilter(MeterRegistry registry) {
+        var registration = new FilterRegistrationBean<>(new GatewayMetricsFilter(registry));
+        // right after Spring's observation filter, so both see the same request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,246 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// per route (uri), method and status: shareit.gateway.upstream (time in BaseClient calls to the server),
+// shareit.gateway.local (the rest: binding, validation, serialization) and request/response sizes.
+// Total gateway time is Spring's own http.server.requests, which carries the same uri/method/status tags
+public class GatewayMetricsFilter extends OncePerRequestFilter {
+
+    static final String UPSTREAM_TIMER = "shareit.gateway.upstream";
+    static final String LOCAL_TIMER = "shareit.gateway.local";
+    static final String REQUEST_SIZE = "shareit.gateway.request.size";
+    static final String RESPONSE_SIZE = "shareit.gateway.response.size";
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    // meters per uri, method and status, so the hot path skips the registry's id lookup
+    private final Map<String, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public GatewayMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        UpstreamTiming upstream = UpstreamTiming.attach(request);
+        CountingRequest countingRequest = new CountingRequest(request);
+        CountingResponse countingResponse = new CountingResponse(response);
+        boolean failed = true;
+        try {
+            chain.doFilter(countingRequest, countingResponse);
+            failed = false;
+        } finally {
+            long total = System.nanoTime() - started;
+            // an exception escaping the chain is turned into a 500 by the container after this filter returns
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            RouteMeters routeMeters = meters.computeIfAbsent(
+                    request.getMethod() + ' ' + status + ' ' + route,
+                    key -> new RouteMeters(Tags.of(
+                            "uri", route != null ? route.toString() : UNKNOWN_ROUTE,
+                            "method", request.getMethod(),
+                            "status", String.valueOf(status))));
+            if (upstream.getCalls() > 0) {
+                routeMeters.upstream().record(upstream.getNanos(), TimeUnit.NANOSECONDS);
+            }
+            routeMeters.local.record(Math.max(total - upstream.getNanos(), 0), TimeUnit.NANOSECONDS);
+            // counted bytes cover chunked bodies; the declared length covers bodies nobody read
+            routeMeters.requestSize.record(Math.max(countingRequest.bytes(), request.getContentLengthLong()));
+            routeMeters.responseSize.record(Math.max(countingResponse.bytes(), declaredLength(response)));
+        }
+    }
+
+    private static long declaredLength(HttpServletResponse response) {
+        String length = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        try {
+            return length != null ? Long.parseLong(length) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private final class RouteMeters {
+        private final Tags tags;
+        private final Timer local;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        // registered on first use, so routes that never reach the server (validation errors) export no series
+        private volatile Timer upstream;
+
+        RouteMeters(Tags tags) {
+            this.tags = tags;
+            local = Timer.builder(LOCAL_TIMER)
+                    .description("Gateway request time outside shareit-server calls")
+                    .tags(tags)
+                    .register(registry);
+            requestSize = size(REQUEST_SIZE, "Gateway request body size", tags);
+            responseSize = size(RESPONSE_SIZE, "Gateway response body size", tags);
+        }
+
+        Timer upstream() {
+            if (upstream == null) {
+                upstream = Timer.builder(UPSTREAM_TIMER)
+                        .description("Time spent waiting for shareit-server per gateway request")
+                        .tags(tags)
+                        .register(registry);
+            }
+            return upstream;
+        }
+
+        private DistributionSummary size(String name, String description, Tags tags) {
+            return DistributionSummary.builder(name)
+                    .description(description)
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    private static final class CountingRequest extends HttpServletRequestWrapper {
+        private CountingInputStream stream;
+
+        CountingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (stream == null) {
+                stream = new CountingInputStream(super.getInputStream());
+            }
+            return stream;
+        }
+
+        long bytes() {
+            return stream != null ? stream.count : 0;
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private CountingOutputStream stream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (stream == null) {
+                stream = new CountingOutputStream(super.getOutputStream());
+            }
+            return stream;
+        }
+
+        long bytes() {
+            return stream != null ? stream.count : 0;
+        }
+    }
+
+    private static final class CountingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private long count;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.metrics;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// time spent in calls to shareit-server while serving one gateway request; BaseClient adds to it and
+// GatewayMetricsFilter reads it once the request is done
+public final class UpstreamTiming {
+
+    private static final String ATTRIBUTE = UpstreamTiming.class.getName();
+
+    private long nanos;
+    private int calls;
+
+    private UpstreamTiming() {
+    }
+
+    static UpstreamTiming attach(ServletRequest request) {
+        UpstreamTiming timing = new UpstreamTiming();
+        request.setAttribute(ATTRIBUTE, timing);
+        return timing;
+    }
+
+    // no-op outside a gateway request, e.g. when a client is called directly
+    public static void record(long elapsedNanos) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UpstreamTiming timing) {
+            timing.nanos += elapsedNanos;
+            timing.calls++;
+        }
+    }
+
+    long getNanos() {
+        return nanos;
+    }
+
+    int getCalls() {
+        return calls;
+    }
+}
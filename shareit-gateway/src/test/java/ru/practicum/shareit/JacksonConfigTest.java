@@ -0,0 +1,21 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void virtualThreadsShouldUseSharedBufferPool() {
+        assertSame(JsonRecyclerPools.sharedConcurrentDequePool(), objectMapper.getFactory()._getRecyclerPool());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.ItemRequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "shareit-server.http-client.max-total=42",
+        "shareit-server.http-client.max-per-route=21"
+})
+class RestTemplateConfigTest {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private UserClient userClient;
+    @Autowired
+    private ItemClient itemClient;
+    @Autowired
+    private BookingClient bookingClient;
+    @Autowired
+    private ItemRequestClient itemRequestClient;
+
+    @Test
+    void allClientsShouldShareOnePooledRequestFactory() {
+        var factories = Stream.of(userClient, itemClient, bookingClient, itemRequestClient)
+                .map(client -> (RestTemplate) ReflectionTestUtils.getField(client, "rest"))
+                .map(RestTemplate::getRequestFactory)
+                .distinct()
+                .toList();
+
+        assertEquals(1, factories.size());
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, factories.get(0));
+    }
+
+    @Test
+    void poolShouldUseConfiguredLimitsAndPublishMetrics() {
+        assertEquals(42, connectionManager.getMaxTotal());
+        assertEquals(21, connectionManager.getDefaultMaxPerRoute());
+        assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "shareit-server")
+                .gauge());
+    }
+
+    @Test
+    void connectionRequestTimeoutShouldDependOnThreadingMode() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setConnectionRequestTimeout(Duration.ofSeconds(2));
+        properties.setVirtualConnectionRequestTimeout(Duration.ofSeconds(30));
+
+        assertEquals(Timeout.ofSeconds(2), connectionRequestTimeout(properties, new MockEnvironment()));
+        assertEquals(Timeout.ofSeconds(30), connectionRequestTimeout(properties,
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true")));
+    }
+
+    private static Timeout connectionRequestTimeout(HttpClientProperties properties, MockEnvironment environment)
+            throws Exception {
+        RestTemplateConfig config = new RestTemplateConfig();
+        try (PoolingHttpClientConnectionManager manager = config.serverConnectionManager(properties);
+             CloseableHttpClient client = config.serverHttpClient(manager, properties, environment)) {
+            return ((Configurable) client).getConfig().getConnectionRequestTimeout();
+        }
+    }
+}
@@ -2,7 +2,6 @@ package ru.practicum.shareit.booking;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -12,6 +11,7 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,21 +38,17 @@ class BookingClientTest {
                 .start(LocalDateTime.now().plusDays(1))
                 .end(LocalDateTime.now().plusDays(2))
                 .build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Object.class)))
+                .thenReturn(ResponseEntity.ok("ok"));
 
-        HttpEntity<Object> request = new HttpEntity<>(dto);
-        ResponseEntity<Object> expected = ResponseEntity.ok("ok");
+        ResponseEntity<Object> result = bookingClient.create(1L, dto);
 
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(dto, 1L)).thenReturn(request);
-            when(restTemplate.postForEntity(anyString(), eq(request), eq(Object.class)))
-                    .thenReturn(expected);
-
-            ResponseEntity<Object> result = bookingClient.create(1L, dto);
-
-            assertEquals(200, result.getStatusCodeValue());
-            assertEquals("ok", result.getBody());
-            verify(restTemplate).postForEntity(contains("/bookings"), eq(request), eq(Object.class));
-        }
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("ok", result.getBody());
+        verify(restTemplate).exchange(eq(""), eq(HttpMethod.POST),
+                argThat((HttpEntity<?> e) -> e.getBody() == dto
+                        && "1".equals(e.getHeaders().getFirst("X-Sharer-User-Id"))),
+                eq(Object.class));
     }
 
     @Test
@@ -62,85 +58,79 @@ class BookingClientTest {
                 .start(LocalDateTime.now().plusDays(1))
                 .end(LocalDateTime.now().plusDays(2))
                 .build();
-
-        HttpEntity<Object> request = new HttpEntity<>(dto);
         HttpStatusCodeException exception = mock(HttpStatusCodeException.class);
         when(exception.getStatusCode()).thenReturn(HttpStatus.BAD_REQUEST);
         when(exception.getResponseBodyAsString()).thenReturn("error");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Object.class)))
+                .thenThrow(exception);
 
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(dto, 2L)).thenReturn(request);
-            when(restTemplate.postForEntity(anyString(), eq(request), eq(Object.class)))
-                    .thenThrow(exception);
+        ResponseEntity<Object> result = bookingClient.create(2L, dto);
 
-            ResponseEntity<Object> result = bookingClient.create(2L, dto);
-
-            assertEquals(400, result.getStatusCodeValue());
-            assertEquals("error", result.getBody());
-        }
+        assertEquals(400, result.getStatusCodeValue());
+        assertEquals("error", result.getBody());
     }
 
     @Test
     void approve_success() {
-        ResponseEntity<Object> expected = ResponseEntity.ok("patched");
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(null, 3L)).thenReturn(new HttpEntity<>(null));
-            when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(), eq(Object.class)))
-                    .thenReturn(expected);
-
-            ResponseEntity<Object> result = bookingClient.approve(3L, 5L, true);
-
-            assertEquals(200, result.getStatusCodeValue());
-            assertEquals("patched", result.getBody());
-            verify(restTemplate).exchange(contains("/bookings/5"), eq(HttpMethod.PATCH), any(), eq(Object.class));
-        }
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(), eq(Object.class), anyMap()))
+                .thenReturn(ResponseEntity.ok("patched"));
+
+        ResponseEntity<Object> result = bookingClient.approve(3L, 5L, true);
+
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("patched", result.getBody());
+        verify(restTemplate).exchange(eq("/5?approved={approved}"), eq(HttpMethod.PATCH), any(),
+                eq(Object.class), eq(Map.of("approved", true)));
     }
 
     @Test
     void getById_success() {
-        ResponseEntity<Object> expected = ResponseEntity.ok("one");
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(null, 4L)).thenReturn(new HttpEntity<>(null));
-            when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
-                    .thenReturn(expected);
-
-            ResponseEntity<Object> result = bookingClient.getById(4L, 10L);
-
-            assertEquals(200, result.getStatusCodeValue());
-            assertEquals("one", result.getBody());
-            verify(restTemplate).exchange(contains("/bookings/10"), eq(HttpMethod.GET), any(), eq(Object.class));
-        }
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
+                .thenReturn(ResponseEntity.ok("one"));
+
+        ResponseEntity<Object> result = bookingClient.getById(4L, 10L);
+
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("one", result.getBody());
+        verify(restTemplate).exchange(eq("/10"), eq(HttpMethod.GET), any(), eq(Object.class));
     }
 
     @Test
     void getAllByUser_success() {
-        ResponseEntity<Object> expected = ResponseEntity.ok("list");
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(null, 6L)).thenReturn(new HttpEntity<>(null));
-            when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
-                    .thenReturn(expected);
-
-            ResponseEntity<Object> result = bookingClient.getAllByUser(6L, "ALL");
-
-            assertEquals(200, result.getStatusCodeValue());
-            assertEquals("list", result.getBody());
-            verify(restTemplate).exchange(contains("/bookings?state=ALL"), eq(HttpMethod.GET), any(), eq(Object.class));
-        }
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class), anyMap()))
+                .thenReturn(ResponseEntity.ok("list"));
+
+        ResponseEntity<Object> result = bookingClient.getAllByUser(6L, "ALL", null, 20);
+
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("list", result.getBody());
+        verify(restTemplate).exchange(eq("?state={state}&size={size}"), eq(HttpMethod.GET), any(),
+                eq(Object.class), eq(Map.of("state", "ALL", "size", 20)));
+    }
+
+    @Test
+    void getAllByUser_shouldForwardCursor() {
+        ResponseEntity<Object> expected = ResponseEntity.ok().header("X-Next-Cursor", "next").body("list");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class), anyMap()))
+                .thenReturn(expected);
+
+        ResponseEntity<Object> result = bookingClient.getAllByUser(6L, "PAST", "abc", 5);
+
+        assertEquals("next", result.getHeaders().getFirst("X-Next-Cursor"));
+        verify(restTemplate).exchange(eq("?state={state}&size={size}&cursor={cursor}"), eq(HttpMethod.GET),
+                any(), eq(Object.class), eq(Map.of("state", "PAST", "size", 5, "cursor", "abc")));
     }
 
     @Test
     void getAllByOwner_success() {
-        ResponseEntity<Object> expected = ResponseEntity.ok("ownerList");
-        try (MockedStatic<HttpUtils> mocked = mockStatic(HttpUtils.class)) {
-            mocked.when(() -> HttpUtils.makeRequest(null, 7L)).thenReturn(new HttpEntity<>(null));
-            when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class)))
-                    .thenReturn(expected);
-
-            ResponseEntity<Object> result = bookingClient.getAllByOwner(7L, "WAITING");
-
-            assertEquals(200, result.getStatusCodeValue());
-            assertEquals("ownerList", result.getBody());
-            verify(restTemplate).exchange(contains("/bookings/owner?state=WAITING"), eq(HttpMethod.GET), any(), eq(Object.class));
-        }
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Object.class), anyMap()))
+                .thenReturn(ResponseEntity.ok("ownerList"));
+
+        ResponseEntity<Object> result = bookingClient.getAllByOwner(7L, "WAITING", null, 100);
+
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("ownerList", result.getBody());
+        verify(restTemplate).exchange(eq("/owner?state={state}&size={size}"), eq(HttpMethod.GET), any(),
+                eq(Object.class), eq(Map.of("state", "WAITING", "size", 100)));
     }
-}
\ No newline at end of file
+}
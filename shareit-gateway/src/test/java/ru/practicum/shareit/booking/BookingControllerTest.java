@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -82,7 +83,7 @@ class BookingControllerTest {
 
     @Test
     void getAllByUser() throws Exception {
-        when(bookingClient.getAllByUser(anyLong(), anyString()))
+        when(bookingClient.getAllByUser(anyLong(), anyString(), any(), anyInt()))
                 .thenReturn(ResponseEntity.ok("list"));
 
         mockMvc.perform(get("/bookings")
@@ -90,12 +91,36 @@ class BookingControllerTest {
                         .param("state", "ALL"))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getAllByUser(4L, "ALL");
+        verify(bookingClient).getAllByUser(4L, "ALL", null, 100);
+    }
+
+    @Test
+    void getAllByUser_withCursor() throws Exception {
+        when(bookingClient.getAllByUser(anyLong(), anyString(), any(), anyInt()))
+                .thenReturn(ResponseEntity.ok("list"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 4L)
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk());
+
+        verify(bookingClient).getAllByUser(4L, "ALL", "abc", 10);
+    }
+
+    @Test
+    void getAllByUser_invalidSize() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 4L)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingClient);
     }
 
     @Test
     void getAllByOwner() throws Exception {
-        when(bookingClient.getAllByOwner(anyLong(), anyString()))
+        when(bookingClient.getAllByOwner(anyLong(), anyString(), any(), anyInt()))
                 .thenReturn(ResponseEntity.ok("list"));
 
         mockMvc.perform(get("/bookings/owner")
@@ -103,6 +128,6 @@ class BookingControllerTest {
                         .param("state", "WAITING"))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getAllByOwner(5L, "WAITING");
+        verify(bookingClient).getAllByOwner(5L, "WAITING", null, 100);
     }
 }
\ No newline at end of file
@@ -2,15 +2,20 @@ package ru.practicum.shareit.client;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -145,4 +150,42 @@ class BaseClientTest {
         assertEquals(400, result.getStatusCodeValue());
         assertEquals("error", result.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void passThrough_shouldRelayBytesAndSelectedHeaders() {
+        ReflectionTestUtils.setField(baseClient, "passThrough", true);
+        byte[] body = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        ResponseEntity<byte[]> serverResponse = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Next-Cursor", "abc")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(body);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class), anyMap()))
+                .thenReturn(serverResponse);
+
+        ResponseEntity<Object> result = baseClient.get("/items", 1L, Map.of("size", 10));
+
+        assertSame(body, result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertEquals("abc", result.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        verify(restTemplate, never()).exchange(anyString(), any(), any(), eq(Object.class), anyMap());
+    }
+
+    @Test
+    void passThrough_shouldRelayErrorBodyBytes() {
+        ReflectionTestUtils.setField(baseClient, "passThrough", true);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", headers, body,
+                        StandardCharsets.UTF_8));
+
+        ResponseEntity<Object> result = baseClient.get("/items/9");
+
+        assertEquals(404, result.getStatusCode().value());
+        assertArrayEquals(body, (byte[]) result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+    }
+}
@@ -1,5 +1,8 @@
 package ru.practicum.shareit.error;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +12,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -52,6 +56,30 @@ class ErrorHandlerTest {
         assertTrue(((Map<?, ?>) response.getBody()).get("error").toString().contains("param"));
     }
 
+    @Test
+    void handleConstraintViolation_shouldReturnBadRequest() {
+        ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("getAllByUser.size");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("must be greater than 0");
+        ConstraintViolationException ex = new ConstraintViolationException(Set.of(violation));
+
+        ResponseEntity<Object> response = errorHandler.handleConstraintViolation(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("getAllByUser.size: must be greater than 0", ((Map<?, ?>) response.getBody()).get("error"));
+    }
+
+    @Test
+    void handleBadRequest_shouldReturnBadRequestWithMessage() {
+        ResponseEntity<Object> response =
+                errorHandler.handleBadRequest(new BadRequestException("Start must be before end"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Start must be before end", ((Map<?, ?>) response.getBody()).get("error"));
+    }
+
     @Test
     void handleUnexpected_shouldReturnInternalServerError() {
         RuntimeException ex = new RuntimeException("Something went wrong");
@@ -3,10 +3,20 @@ package ru.practicum.shareit.item;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -85,13 +95,43 @@ class ItemClientTest {
 
     @Test
     void search_shouldCallGet() {
-        when(restTemplate.exchange(anyString(), any(), any(), eq(Object.class)))
+        when(restTemplate.exchange(anyString(), any(), any(), eq(Object.class), anyMap()))
                 .thenReturn(ResponseEntity.ok().build());
 
-        ResponseEntity<Object> response = itemClient.search("hammer");
+        ResponseEntity<Object> response = itemClient.search("hammer", "7", 20);
 
-        assertEquals(200, response.getStatusCodeValue());
-        verify(restTemplate).exchange(contains("/search?text=hammer"), eq(HttpMethod.GET), any(), eq(Object.class));
+        assertEquals(200, response.getStatusCode().value());
+        verify(restTemplate).exchange(eq("/search?text={text}&size={size}&cursor={cursor}"), eq(HttpMethod.GET),
+                any(), eq(Object.class), eq(Map.<String, Object>of("text", "hammer", "size", 20, "cursor", "7")));
+    }
+
+    @Test
+    void searchAvailable_shouldSendWindowAndSizeOnly() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime end = start.plusDays(2);
+        when(restTemplate.exchange(anyString(), any(), any(), eq(Object.class), anyMap()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        ResponseEntity<Object> response = itemClient.searchAvailable(start, end, null, null, 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        verify(restTemplate).exchange(eq("/available?start={start}&end={end}&size={size}"), eq(HttpMethod.GET),
+                any(), eq(Object.class), eq(Map.<String, Object>of("start", start, "end", end, "size", 20)));
+    }
+
+    @Test
+    void searchAvailable_shouldAddTextAndCursorWhenPresent() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime end = start.plusDays(2);
+        when(restTemplate.exchange(anyString(), any(), any(), eq(Object.class), anyMap()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        itemClient.searchAvailable(start, end, "drill", "abc", 20);
+
+        verify(restTemplate).exchange(
+                eq("/available?start={start}&end={end}&size={size}&text={text}&cursor={cursor}"),
+                eq(HttpMethod.GET), any(), eq(Object.class), eq(Map.<String, Object>of(
+                        "start", start, "end", end, "size", 20, "text", "drill", "cursor", "abc")));
     }
 
     @Test
@@ -108,4 +148,26 @@ class ItemClientTest {
         assertEquals(200, response.getStatusCodeValue());
         verify(restTemplate).exchange(contains("/2/comment"), eq(HttpMethod.POST), any(), eq(Object.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importItems_shouldStreamBodyWithOwnerHeader() throws Exception {
+        String ndjson = "{\"name\":\"Drill\"}\n{\"name\":\"Saw\"}\n";
+        when(restTemplate.execute(anyString(), eq(HttpMethod.POST), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenReturn(ResponseEntity.ok().build());
+
+        ResponseEntity<Object> response = itemClient.importItems(4L, MediaType.APPLICATION_NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<RequestCallback> callback = ArgumentCaptor.forClass(RequestCallback.class);
+        verify(restTemplate).execute(eq("/bulk"), eq(HttpMethod.POST), callback.capture(),
+                any(ResponseExtractor.class));
+        MockClientHttpRequest request = new MockClientHttpRequest();
+        callback.getValue().doWithRequest(request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(MediaType.APPLICATION_NDJSON, request.getHeaders().getContentType());
+        assertEquals("4", request.getHeaders().getFirst("X-Sharer-User-Id"));
+        assertEquals(ndjson, request.getBodyAsString());
+    }
+}
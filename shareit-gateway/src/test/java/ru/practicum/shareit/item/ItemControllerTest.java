@@ -12,11 +12,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.practicum.shareit.error.ErrorHandler;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -101,13 +105,65 @@ class ItemControllerTest {
 
     @Test
     void search_shouldReturnOk() throws Exception {
-        when(itemClient.search(any())).thenReturn(ResponseEntity.ok().build());
+        when(itemClient.search(eq("drill"), any(), eq(100))).thenReturn(ResponseEntity.ok().build());
 
         mockMvc.perform(get("/items/search")
                         .param("text", "drill"))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void searchAvailable_shouldReturnOk() throws Exception {
+        when(itemClient.searchAvailable(any(), any(), eq("drill"), any(), eq(20)))
+                .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/items/available")
+                        .param("start", "2030-01-01T10:00:00")
+                        .param("end", "2030-01-02T10:00:00")
+                        .param("text", "drill")
+                        .param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchAvailable_shouldRejectWindowEndingBeforeStart() throws Exception {
+        withErrorHandler().perform(get("/items/available")
+                        .param("start", "2030-01-02T10:00:00")
+                        .param("end", "2030-01-01T10:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Start must be before end"));
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void searchAvailable_shouldRequireWindow() throws Exception {
+        mockMvc.perform(get("/items/available")
+                        .param("start", "2030-01-01T10:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCalendar_shouldReturnOk() throws Exception {
+        when(itemClient.getCalendar(eq(5L), any(), any())).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/items/5/calendar")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2031-01-01T00:00:00"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getCalendar_shouldRejectEmptyRange() throws Exception {
+        withErrorHandler().perform(get("/items/5/calendar")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("From must be before to"));
+
+        verifyNoInteractions(itemClient);
+    }
+
     @Test
     void addComment_shouldReturnOk() throws Exception {
         when(itemClient.addComment(anyLong(), anyLong(), any()))
@@ -119,4 +175,30 @@ class ItemControllerTest {
                         .content(mapper.writeValueAsString(commentDto)))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void importItems_shouldPassBodyThroughWithContentType() throws Exception {
+        when(itemClient.importItems(eq(1L), eq(MediaType.APPLICATION_NDJSON), any()))
+                .thenReturn(ResponseEntity.ok("[]"));
+
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"Drill\"}\n"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void importItems_shouldRejectUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Drill"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    // the cross-parameter checks throw and leave the response body to ErrorHandler
+    private MockMvc withErrorHandler() {
+        return MockMvcBuilders.standaloneSetup(itemController).setControllerAdvice(new ErrorHandler()).build();
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// observability is switched off in tests by default, which would leave no Prometheus registry
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GatewayMetricsFilterTest {
+
+    private static final byte[] USER = "{\"id\":7,\"name\":\"Ann\",\"email\":\"ann@mail.ru\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer server;
+
+    @Autowired
+    private TestRestTemplate rest;
+    @Autowired
+    private MeterRegistry registry;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, USER.length);
+            exchange.getResponseBody().write(USER);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry properties) {
+        properties.add("shareit-server.url", () -> "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @Test
+    void shouldSplitGatewayTimeIntoUpstreamAndLocalPerRoute() {
+        ResponseEntity<String> response = rest.getForEntity("/users/7", String.class);
+        assertEquals(200, response.getStatusCode().value());
+
+        Timer upstream = registry.get(GatewayMetricsFilter.UPSTREAM_TIMER)
+                .tags("uri", "/users/{id}", "method", "GET", "status", "200")
+                .timer();
+        Timer local = registry.get(GatewayMetricsFilter.LOCAL_TIMER)
+                .tags("uri", "/users/{id}", "method", "GET", "status", "200")
+                .timer();
+        assertTrue(upstream.count() >= 1);
+        assertTrue(upstream.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(upstream.count(), local.count());
+        assertTrue(registry.get("http.server.requests").tags("uri", "/users/{id}", "status", "200").timer().count()
+                >= 1);
+
+        DistributionSummary responseSize = registry.get(GatewayMetricsFilter.RESPONSE_SIZE)
+                .tags("uri", "/users/{id}", "method", "GET", "status", "200")
+                .summary();
+        assertEquals(USER.length, responseSize.max());
+    }
+
+    @Test
+    void shouldCountRequestBytesAndSkipUpstreamWhenValidationFails() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String invalid = "{\"name\":\"\",\"email\":\"not-an-email\"}";
+
+        ResponseEntity<String> response = rest.postForEntity("/users", new HttpEntity<>(invalid, headers),
+                String.class);
+        assertEquals(400, response.getStatusCode().value());
+
+        assertNull(registry.find(GatewayMetricsFilter.UPSTREAM_TIMER)
+                .tags("uri", "/users", "method", "POST", "status", "400")
+                .timer());
+        assertEquals(1, registry.get(GatewayMetricsFilter.LOCAL_TIMER)
+                .tags("uri", "/users", "method", "POST", "status", "400")
+                .timer().count());
+        assertEquals(invalid.length(), registry.get(GatewayMetricsFilter.REQUEST_SIZE)
+                .tags("uri", "/users", "method", "POST", "status", "400")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void shouldExportHistogramsInPrometheusFormat() {
+        rest.getForEntity("/users/7", String.class);
+
+        String scrape = rest.getForObject("/actuator/prometheus", String.class);
+
+        assertTrue(scrape.contains("shareit_gateway_upstream_seconds_bucket{"));
+        assertTrue(scrape.contains("shareit_gateway_response_size_bytes_sum{"));
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+    }
+}
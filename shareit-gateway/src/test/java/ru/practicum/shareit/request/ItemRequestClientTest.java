@@ -7,8 +7,6 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.function.Supplier;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -24,7 +22,6 @@ class ItemRequestClientTest {
 
         RestTemplateBuilder builder = mock(RestTemplateBuilder.class);
         when(builder.uriTemplateHandler(any())).thenReturn(builder);
-        when(builder.requestFactory(any(Supplier.class))).thenReturn(builder);
         when(builder.build()).thenReturn(restTemplate);
 
         requestClient = new ItemRequestClient("http://localhost", builder);
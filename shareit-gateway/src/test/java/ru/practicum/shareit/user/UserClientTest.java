@@ -22,7 +22,6 @@ class UserClientTest {
 
         RestTemplateBuilder builder = mock(RestTemplateBuilder.class);
         when(builder.uriTemplateHandler(any())).thenReturn(builder);
-        when(builder.requestFactory(any(java.util.function.Supplier.class))).thenReturn(builder);
         when(builder.build()).thenReturn(restTemplate);
 
         userClient = new UserClient("http://localhost", builder);
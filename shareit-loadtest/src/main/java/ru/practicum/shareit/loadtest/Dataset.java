@@ -0,0 +1,20 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// ids created by the seeder; parallel arrays so the hot path picks without boxing
+@Getter
+@AllArgsConstructor
+public class Dataset {
+
+    private final long[] ownerIds;
+    private final long[] bookerIds;
+    private final long[] itemIds;
+    private final long[] itemOwnerIds;
+    private final long[] bookingIds;
+    private final long[] bookingBookerIds;
+    private final List<PendingApproval> waiting;
+}
@@ -0,0 +1,165 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+// builds the synthetic dataset through the public API, so it goes through the same validation as real traffic
+public class DatasetSeeder {
+
+    static final String[] NOUNS = {
+            "drill", "saw", "ladder", "tent", "bike", "kayak", "projector", "mixer",
+            "sander", "grill", "hammer", "scooter", "camera", "speaker", "trailer", "mower"};
+    private static final String[] ADJECTIVES = {
+            "Cordless", "Electric", "Folding", "Heavy", "Compact", "Garden", "Camping", "Kids"};
+    private static final int ITEMS_PER_IMPORT = 500;
+
+    private final ShareItClient client;
+    private final LoadTestSettings settings;
+    private final Random random;
+
+    public DatasetSeeder(ShareItClient client, LoadTestSettings settings) {
+        this.client = client;
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+    }
+
+    public Dataset seed() {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(Collections.max(settings.getConcurrency()), 16));
+        try {
+            long[] ownerIds = createUsers(executor, "owner", settings.getOwners());
+            long[] bookerIds = createUsers(executor, "booker", settings.getBookers());
+            long[] itemOwnerIds = new long[settings.getItems()];
+            long[] itemIds = createItems(executor, ownerIds, itemOwnerIds);
+            return createBookings(executor, ownerIds, bookerIds, itemIds, itemOwnerIds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] createUsers(ExecutorService executor, String role, int count) {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        return ids(executor, IntStream.range(0, count)
+                .mapToObj(i -> (Callable<Long>) () -> client.exchange(client.post("/users", null, Map.of(
+                        "name", role + " " + i,
+                        "email", role + i + "-" + run + "@loadtest.local"))).path("id").asLong())
+                .toList());
+    }
+
+    // NDJSON bulk import, one batch per owner at a time; items go round-robin so every owner has some
+    private long[] createItems(ExecutorService executor, long[] ownerIds, long[] itemOwnerIds) {
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int owner = 0; owner < ownerIds.length; owner++) {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = owner; i < itemOwnerIds.length; i += ownerIds.length) {
+                batch.add(i);
+                if (batch.size() == ITEMS_PER_IMPORT) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+        }
+
+        long[] itemIds = new long[itemOwnerIds.length];
+        List<Callable<Long>> tasks = batches.stream()
+                .map(batch -> (Callable<Long>) () -> {
+                    long ownerId = ownerIds[batch.get(0) % ownerIds.length];
+                    StringBuilder body = new StringBuilder();
+                    for (int index : batch) {
+                        String noun = NOUNS[index % NOUNS.length];
+                        body.append(client.toJson(Map.of(
+                                "name", ADJECTIVES[(index / NOUNS.length) % ADJECTIVES.length] + " " + noun,
+                                "description", "Well kept " + noun + " for rent, lot " + index,
+                                "available", available(index)))).append('\n');
+                    }
+                    JsonNode results = client.exchange(client.post("/items/bulk", ownerId,
+                            "application/x-ndjson", body.toString()));
+                    for (JsonNode result : results) {
+                        if (!result.path("error").isMissingNode() && !result.path("error").isNull()) {
+                            throw new IllegalStateException("Item import failed: " + result);
+                        }
+                        int index = batch.get(result.path("index").asInt());
+                        itemIds[index] = result.path("id").asLong();
+                        itemOwnerIds[index] = ownerId;
+                    }
+                    return (long) batch.size();
+                })
+                .toList();
+        ids(executor, tasks);
+        return itemIds;
+    }
+
+    // consecutive non-overlapping windows per item; every other one approved, the rest left for BOOKING_APPROVE
+    private Dataset createBookings(ExecutorService executor, long[] ownerIds, long[] bookerIds,
+                                   long[] itemIds, long[] itemOwnerIds) {
+        LocalDateTime origin = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        int count = settings.getBookings();
+        long[] bookingBookerIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            bookingBookerIds[i] = bookerIds[random.nextInt(bookerIds.length)];
+        }
+
+        int[] bookable = IntStream.range(0, itemIds.length).filter(DatasetSeeder::available).toArray();
+
+        long[] bookingIds = ids(executor, IntStream.range(0, count)
+                .mapToObj(i -> (Callable<Long>) () -> {
+                    int item = bookable[i % bookable.length];
+                    LocalDateTime start = origin.plusDays(3L * (i / bookable.length)).plusHours(i % 12);
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("itemId", itemIds[item]);
+                    body.put("start", start);
+                    body.put("end", start.plusDays(1));
+                    long bookingId = client.exchange(client.post("/bookings", bookingBookerIds[i], body))
+                            .path("id").asLong();
+                    if (i % 2 == 0) {
+                        client.exchange(client.patch("/bookings/" + bookingId + "?approved=true",
+                                itemOwnerIds[item]));
+                    }
+                    return bookingId;
+                })
+                .toList());
+
+        List<PendingApproval> waiting = new ArrayList<>();
+        for (int i = 1; i < count; i += 2) {
+            waiting.add(new PendingApproval(bookingIds[i], itemOwnerIds[bookable[i % bookable.length]]));
+        }
+        return new Dataset(ownerIds, bookerIds, itemIds, itemOwnerIds, bookingIds, bookingBookerIds, waiting);
+    }
+
+    // every tenth item is listed as unavailable, so searches and booking attempts also meet those
+    private static boolean available(int index) {
+        return index % 10 != 0;
+    }
+
+    private static long[] ids(ExecutorService executor, List<Callable<Long>> tasks) {
+        try {
+            List<Future<Long>> futures = executor.invokeAll(tasks);
+            long[] ids = new long[futures.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = futures.get(i).get();
+            }
+            return ids;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        }
+    }
+}
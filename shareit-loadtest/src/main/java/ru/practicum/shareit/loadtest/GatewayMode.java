@@ -0,0 +1,26 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Locale;
+
+// which gateway the local stack puts in front of the server; both expose the same API on the same port
+public enum GatewayMode {
+    // shareit-gateway: Spring MVC on Tomcat, a blocking RestTemplate call per request
+    MVC("shareit-gateway.jar"),
+    // shareit-gateway-reactive: WebFlux on Reactor Netty, responses streamed through a pooled WebClient
+    REACTIVE("shareit-gateway-reactive.jar");
+
+    private final String jar;
+
+    GatewayMode(String jar) {
+        this.jar = jar;
+    }
+
+    public String jar() {
+        return jar;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
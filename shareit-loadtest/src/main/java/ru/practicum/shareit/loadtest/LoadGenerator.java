@@ -0,0 +1,133 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+public class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Workload workload;
+    private final LoadTestSettings settings;
+
+    public LoadGenerator(Workload workload, LoadTestSettings settings) {
+        this.workload = workload;
+        this.settings = settings;
+    }
+
+    // warm-up results are thrown away so JIT, pools and caches settle before measuring;
+    // concurrency is the number of closed-loop workers and is ignored in open mode
+    public LoadStats run(Scenario scenario, int concurrency) {
+        runPhase(scenario, concurrency, settings.getWarmup(), new LoadStats());
+        LoadStats stats = new LoadStats();
+        runPhase(scenario, concurrency, settings.getDuration(), stats);
+        return stats;
+    }
+
+    private void runPhase(Scenario scenario, int concurrency, Duration length, LoadStats stats) {
+        long started = System.nanoTime();
+        if (settings.getMode() == LoadMode.OPEN) {
+            openLoop(scenario, length, stats);
+        } else {
+            closedLoop(scenario, concurrency, length, stats);
+        }
+        stats.finish(Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    // workers are virtual threads, so thousands of them (one open connection each) cost the generator little
+    // and the measured limit is the gateway's, not this JVM's
+    private void closedLoop(Scenario scenario, int concurrency, Duration length, LoadStats stats) {
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int worker = 0; worker < concurrency; worker++) {
+            SplittableRandom random = new SplittableRandom(settings.getSeed() * 31 + worker);
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    call(scenario, random, stats);
+                }
+            });
+        }
+        workers.shutdown();
+        await(workers, length.plus(DRAIN_TIMEOUT));
+    }
+
+    // requests leave on a fixed schedule; latency counts from the scheduled moment, so a stalled server shows up
+    // as queueing delay instead of silently lowering the offered load (coordinated omission)
+    private void openLoop(Scenario scenario, Duration length, LoadStats stats) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        SplittableRandom random = new SplittableRandom(settings.getSeed());
+        AtomicLong inFlight = new AtomicLong();
+
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = scenario.pick(random);
+            HttpRequest request = operation.build(workload, random);
+            if (request == null) {
+                continue;
+            }
+            long scheduled = intended;
+            inFlight.incrementAndGet();
+            workload.getClient().sendAsync(request).whenComplete((response, error) -> {
+                if (error != null) {
+                    stats.of(operation).failed();
+                } else {
+                    complete(operation, response, scheduled, stats);
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void call(Scenario scenario, RandomGenerator random, LoadStats stats) {
+        Operation operation = scenario.pick(random);
+        HttpRequest request = operation.build(workload, random);
+        if (request == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            complete(operation, workload.getClient().send(request), start, stats);
+        } catch (IOException e) {
+            stats.of(operation).failed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void complete(Operation operation, HttpResponse<byte[]> response, long start, LoadStats stats) {
+        stats.of(operation).record(response.statusCode(), System.nanoTime() - start);
+        if (response.statusCode() / 100 == 2) {
+            operation.onSuccess(workload, response);
+        }
+    }
+
+    private static void await(ExecutorService executor, Duration timeout) {
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.loadtest;
+
+public enum LoadMode {
+    // fixed number of workers, each sending its next request as soon as the previous one returns
+    CLOSED,
+    // fixed arrival rate regardless of response times; latency is measured from the intended send time
+    OPEN
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+// console table per run (scenario, gateway, server threads, concurrency), one .hgrm percentile file per endpoint
+// (plottable with HdrHistogram's plotter) and summary.csv across runs for diffing two releases, gateways or thread
+// modes
+public class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String CSV_HEADER =
+            "scenario,gateway,server_threads,concurrency,endpoint,requests,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,client_errors,errors";
+    private static final String ROW = "%-26s %9s %9s %9s %9s %9s %9s %9s %7s %7s%n";
+
+    private final Path outputDir;
+    private final List<String> csv = new ArrayList<>(List.of(CSV_HEADER));
+
+    public LoadReport(Path outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    // gateway and threads are null against an external --target; concurrency is 0 in open mode
+    public void add(Scenario scenario, GatewayMode gateway, ThreadMode threads, int concurrency, LoadStats stats) {
+        Run run = new Run(scenario.toString(), gateway == null ? "target" : gateway.toString(),
+                threads == null ? "" : threads.toString(), concurrency > 0 ? Integer.toString(concurrency) : "");
+        double seconds = stats.getElapsed().toNanos() / 1e9;
+        List<EndpointStats> endpoints = stats.getEndpoints().stream()
+                .sorted(Comparator.comparing(EndpointStats::getEndpoint))
+                .toList();
+
+        System.out.printf("%n%s, %s%s (%.1fs measured)%n", run.scenario, run.stack(),
+                concurrency > 0 ? ", " + concurrency + " workers" : "", seconds);
+        System.out.printf(ROW, "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms", "4xx", "errors");
+        long clientErrors = 0;
+        long errors = 0;
+        for (EndpointStats endpoint : endpoints) {
+            row(run, endpoint.getEndpoint(), endpoint.getLatency(), seconds,
+                    endpoint.getClientErrors().sum(), endpoint.getErrors().sum());
+            writeHistogram(run, endpoint.getEndpoint(), endpoint.getLatency());
+            clientErrors += endpoint.getClientErrors().sum();
+            errors += endpoint.getErrors().sum();
+        }
+        Histogram total = stats.total();
+        if (total != null) {
+            row(run, "total", total, seconds, clientErrors, errors);
+            writeHistogram(run, "total", total);
+        }
+    }
+
+    public Path writeSummary() {
+        Path summary = outputDir.resolve("summary.csv");
+        try {
+            Files.write(summary, csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + summary, e);
+        }
+        return summary;
+    }
+
+    private void row(Run run, String endpoint, Histogram latency, double seconds,
+                     long clientErrors, long errors) {
+        long count = latency.getTotalCount();
+        String throughput = format(count / seconds);
+        String p50 = millis(latency, 50);
+        String p90 = millis(latency, 90);
+        String p99 = millis(latency, 99);
+        String p999 = millis(latency, 99.9);
+        String max = format(latency.getMaxValue() / MICROS_PER_MILLI);
+        System.out.printf(ROW, endpoint, count, throughput, p50, p90, p99, p999, max, clientErrors, errors);
+        csv.add(String.join(",", run.scenario, run.gateway, run.threads, run.concurrency, endpoint, Long.toString(count),
+                throughput,
+                p50, p90, p99, p999, max, Long.toString(clientErrors), Long.toString(errors)));
+    }
+
+    // <scenario>/<gateway>-<threads>[-c<concurrency>]/<endpoint>.hgrm
+    private void writeHistogram(Run run, String endpoint, Histogram latency) {
+        Path file = outputDir.resolve(run.scenario)
+                .resolve(run.concurrency.isEmpty() ? run.stack() : run.stack() + "-c" + run.concurrency)
+                .resolve(slug(endpoint) + ".hgrm");
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + file, e);
+        }
+    }
+
+    private static String millis(Histogram latency, double percentile) {
+        return format(latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static final class Run {
+        private final String scenario;
+        private final String gateway;
+        private final String threads;
+        private final String concurrency;
+
+        private Run(String scenario, String gateway, String threads, String concurrency) {
+            this.scenario = scenario;
+            this.gateway = gateway;
+            this.threads = threads;
+            this.concurrency = concurrency;
+        }
+
+        // "mvc-platform", or "target" for an external gateway
+        private String stack() {
+            return threads.isEmpty() ? gateway : gateway + "-" + threads;
+        }
+    }
+
+    // "GET /items/{id}/calendar" -> "GET_items_id_calendar"
+    static String slug(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// results of one measured phase, per endpoint
+@Getter
+public class LoadStats {
+
+    private final Map<Operation, EndpointStats> byOperation = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+
+    public EndpointStats of(Operation operation) {
+        return byOperation.computeIfAbsent(operation, op -> new EndpointStats(op.getEndpoint()));
+    }
+
+    public Collection<EndpointStats> getEndpoints() {
+        return byOperation.values();
+    }
+
+    public Histogram total() {
+        Histogram total = null;
+        for (EndpointStats stats : byOperation.values()) {
+            if (total == null) {
+                total = stats.getLatency().copy();
+            } else {
+                total.add(stats.getLatency());
+            }
+        }
+        return total;
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+}
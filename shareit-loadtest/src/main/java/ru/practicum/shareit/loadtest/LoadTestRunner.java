@@ -0,0 +1,56 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+// java -jar shareit-loadtest/target/loadtest.jar --scenarios=search-heavy --mode=open --rate=800 --duration=2m
+// java -jar shareit-loadtest/target/loadtest.jar --server-threads=platform,virtual --concurrency=50,500,5000
+// java -jar shareit-loadtest/target/loadtest.jar --gateway=mvc,reactive --concurrency=50,500,5000
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        Files.createDirectories(settings.getOutputDir());
+        LoadReport report = new LoadReport(settings.getOutputDir());
+
+        if (settings.getTarget() != null) {
+            run(settings, URI.create(settings.getTarget()), null, null, report);
+        } else {
+            // a fresh stack per gateway and thread mode, so all start from the same seeded data and a cold JVM
+            for (GatewayMode gateway : settings.getGateways()) {
+                for (ThreadMode threads : settings.getServerThreads()) {
+                    try (LocalStack stack = LocalStack.start(settings, gateway, threads)) {
+                        run(settings, stack.getGatewayUri(), gateway, threads, report);
+                    }
+                }
+            }
+        }
+        System.out.println("\nResults: " + report.writeSummary().toAbsolutePath());
+    }
+
+    private static void run(LoadTestSettings settings, URI gatewayUri, GatewayMode gateway, ThreadMode threads,
+                            LoadReport report) {
+        ShareItClient client = new ShareItClient(gatewayUri);
+
+        long seedingStarted = System.nanoTime();
+        Dataset dataset = new DatasetSeeder(client, settings).seed();
+        System.out.printf("Seeded %d owners, %d bookers, %d items, %d bookings in %ds%n",
+                settings.getOwners(), settings.getBookers(), settings.getItems(), settings.getBookings(),
+                Duration.ofNanos(System.nanoTime() - seedingStarted).toSeconds());
+
+        Workload workload = new Workload(client, dataset);
+        List<Integer> levels = settings.getMode() == LoadMode.OPEN ? List.of(0) : settings.getConcurrency();
+        for (Scenario scenario : settings.getScenarios()) {
+            for (int concurrency : levels) {
+                System.out.printf("Running %s, %s loop%s, %s warm-up, %s measured%n", scenario,
+                        settings.getMode().name().toLowerCase(), concurrency > 0 ? " x" + concurrency : "",
+                        settings.getWarmup(), settings.getDuration());
+                report.add(scenario, gateway, threads, concurrency,
+                        new LoadGenerator(workload, settings).run(scenario, concurrency));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Builder
+public class LoadTestSettings {
+
+    private static final Set<String> KEYS = Set.of(
+            "scenarios", "mode", "concurrency", "gateway", "server-threads", "rate", "warmup", "duration",
+            "owners", "bookers", "items", "bookings", "seed",
+            "target", "apps", "output", "server-port", "gateway-port", "jvm-options");
+
+    private final List<Scenario> scenarios;
+    private final LoadMode mode;
+    // closed loop only; every level is measured in turn, e.g. --concurrency=50,500,5000
+    private final List<Integer> concurrency;
+    // the local stack is restarted for each gateway, e.g. --gateway=mvc,reactive; ignored with --target
+    private final List<GatewayMode> gateways;
+    // the local stack is restarted for each mode, e.g. --server-threads=platform,virtual; ignored with --target
+    private final List<ThreadMode> serverThreads;
+    // requests per second, open loop only
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+
+    private final int owners;
+    private final int bookers;
+    private final int items;
+    private final int bookings;
+    private final long seed;
+
+    // base URL of an already running gateway; when empty the server and gateway are started locally
+    private final String target;
+    private final Path appsDir;
+    private final Path outputDir;
+    private final int serverPort;
+    private final int gatewayPort;
+    private final String jvmOptions;
+
+    // --key=value pairs; anything not given keeps its default
+    public static LoadTestSettings parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            String key = arg.substring(2, eq);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown option --" + key + ", expected one of " + KEYS);
+            }
+            values.put(key, arg.substring(eq + 1));
+        }
+
+        return LoadTestSettings.builder()
+                .scenarios(Arrays.stream(values.getOrDefault("scenarios", "all").split(","))
+                        .flatMap(name -> Scenario.fromName(name.trim()).stream())
+                        .distinct()
+                        .toList())
+                .mode(LoadMode.valueOf(values.getOrDefault("mode", "closed").toUpperCase(Locale.ROOT)))
+                .concurrency(Arrays.stream(values.getOrDefault("concurrency", "32").split(","))
+                        .map(level -> positive("concurrency", Integer.parseInt(level.trim())))
+                        .distinct()
+                        .toList())
+                .gateways(Arrays.stream(values.getOrDefault("gateway", "mvc").split(","))
+                        .map(gateway -> GatewayMode.valueOf(gateway.trim().toUpperCase(Locale.ROOT)))
+                        .distinct()
+                        .toList())
+                .serverThreads(Arrays.stream(values.getOrDefault("server-threads", "platform").split(","))
+                        .map(mode -> ThreadMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                        .distinct()
+                        .toList())
+                .rate(intValue(values, "rate", 500))
+                .warmup(durationValue(values, "warmup", "15s"))
+                .duration(durationValue(values, "duration", "60s"))
+                .owners(intValue(values, "owners", 50))
+                .bookers(intValue(values, "bookers", 200))
+                .items(intValue(values, "items", 2000))
+                .bookings(intValue(values, "bookings", 4000))
+                .seed(Long.parseLong(values.getOrDefault("seed", "42")))
+                .target(values.get("target"))
+                .appsDir(values.containsKey("apps") ? Path.of(values.get("apps")) : defaultAppsDir())
+                .outputDir(Path.of(values.getOrDefault("output", "loadtest-results/"
+                        + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")))))
+                .serverPort(intValue(values, "server-port", 19090))
+                .gatewayPort(intValue(values, "gateway-port", 18080))
+                .jvmOptions(values.getOrDefault("jvm-options", "-Xms1g -Xmx1g"))
+                .build();
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        return positive(key, values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue);
+    }
+
+    private static int positive(String key, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + key + " must be positive");
+        }
+        return value;
+    }
+
+    // 90s, 2m, 1m30s
+    private static Duration durationValue(Map<String, String> values, String key, String defaultValue) {
+        return Duration.parse("PT" + values.getOrDefault(key, defaultValue).toUpperCase(Locale.ROOT));
+    }
+
+    // target/apps next to the jar (or the classes directory) this runs from
+    private static Path defaultAppsDir() {
+        try {
+            return Path.of(LoadTestSettings.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getParent()
+                    .resolve("apps");
+        } catch (URISyntaxException e) {
+            return Path.of("shareit-loadtest", "target", "apps");
+        }
+    }
+}
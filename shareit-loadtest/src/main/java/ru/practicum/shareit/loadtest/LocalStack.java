@@ -0,0 +1,157 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// server and gateway as child JVMs on local ports; the two apps share package and class names, so they cannot
+// live on one classpath. The server runs its test profile (in-memory H2), with the driver added via loader.path
+@Getter
+public class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String PROPERTIES_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private final List<Process> processes = new ArrayList<>();
+    private final URI serverUri;
+    private final URI gatewayUri;
+
+    private LocalStack(LoadTestSettings settings) {
+        this.serverUri = URI.create("http://localhost:" + settings.getServerPort());
+        this.gatewayUri = URI.create("http://localhost:" + settings.getGatewayPort());
+    }
+
+    public static LocalStack start(LoadTestSettings settings, GatewayMode gatewayMode, ThreadMode threads) {
+        Path apps = settings.getAppsDir();
+        Path serverJar = require(apps.resolve("shareit-server.jar"));
+        Path gatewayJar = require(apps.resolve(gatewayMode.jar()));
+        Path h2Jar = require(apps.resolve("h2.jar"));
+
+        LocalStack stack = new LocalStack(settings);
+        try {
+            List<String> server = java(settings);
+            server.addAll(List.of(
+                    "-Dloader.path=" + h2Jar.toAbsolutePath(),
+                    "-cp", serverJar.toAbsolutePath().toString(),
+                    PROPERTIES_LAUNCHER,
+                    "--spring.profiles.active=test",
+                    "--server.port=" + settings.getServerPort(),
+                    threads.springProperty(),
+                    "--spring.jpa.show-sql=false",
+                    // per-transaction DEBUG/TRACE logging from application.properties would dominate the profile
+                    "--logging.level.org.springframework.transaction.interceptor=WARN",
+                    "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                    "--logging.level.root=WARN"));
+            stack.launch("server-" + threads, server, settings.getOutputDir());
+            stack.awaitHealthy("server-" + threads, stack.serverUri);
+
+            List<String> gateway = java(settings);
+            gateway.addAll(List.of(
+                    "-jar", gatewayJar.toAbsolutePath().toString(),
+                    "--server.port=" + settings.getGatewayPort(),
+                    "--shareit-server.url=" + stack.serverUri,
+                    threads.springProperty(),
+                    "--logging.level.root=WARN"));
+            String gatewayName = "gateway-" + gatewayMode + "-" + threads;
+            stack.launch(gatewayName, gateway, settings.getOutputDir());
+            stack.awaitHealthy(gatewayName, stack.gatewayUri);
+            return stack;
+        } catch (RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes.reversed()) {
+            process.destroy();
+            try {
+                if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void launch(String name, List<String> command, Path outputDir) {
+        Path log = outputDir.resolve(name + ".log");
+        try {
+            processes.add(new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start " + name, e);
+        }
+        System.out.println("Started " + name + ", log: " + log);
+    }
+
+    private void awaitHealthy(String name, URI baseUri) {
+        HttpClient http = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        Process process = processes.getLast();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue()
+                        + ", see " + name + ".log");
+            }
+            try {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + name, e);
+            }
+            sleep(Duration.ofMillis(500));
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private static List<String> java(LoadTestSettings settings) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.stream(settings.getJvmOptions().trim().split("\\s+"))
+                .filter(option -> !option.isEmpty())
+                .toList());
+        return command;
+    }
+
+    private static Path require(Path jar) {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; build with mvn -pl shareit-loadtest -am package "
+                    + "or point --apps at a directory with shareit-server.jar, the gateway jars and h2.jar");
+        }
+        return jar;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+}
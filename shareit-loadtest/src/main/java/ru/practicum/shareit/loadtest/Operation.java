@@ -0,0 +1,121 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import static ru.practicum.shareit.loadtest.ShareItClient.encode;
+
+// one gateway call; the endpoint label is the route template so results aggregate per endpoint, not per URL
+@Getter
+public enum Operation {
+    SEARCH("GET /items/search") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            return workload.getClient().get("/items/search?text=" + encode(workload.anySearchTerm(random)), null);
+        }
+    },
+    SEARCH_AVAILABLE("GET /items/available") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            LocalDateTime start = workload.anyFutureStart(random);
+            String text = random.nextInt(4) == 0 ? "" : workload.anySearchTerm(random);
+            return workload.getClient().get("/items/available?start=" + encode(start)
+                    + "&end=" + encode(start.plusDays(1 + random.nextInt(7)))
+                    + "&text=" + encode(text) + "&size=20", null);
+        }
+    },
+    ITEM_BY_ID("GET /items/{id}") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            return workload.getClient().get("/items/" + workload.anyItem(random), workload.anyBooker(random));
+        }
+    },
+    ITEM_CALENDAR("GET /items/{id}/calendar") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            LocalDateTime from = workload.getOrigin();
+            return workload.getClient().get("/items/" + workload.anyItem(random) + "/calendar?from="
+                    + encode(from) + "&to=" + encode(from.plusMonths(3)), null);
+        }
+    },
+    ITEMS_OF_OWNER("GET /items") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            return workload.getClient().get("/items", workload.anyOwner(random));
+        }
+    },
+    BOOKING_CREATE("POST /bookings") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            LocalDateTime start = workload.anyFutureStart(random);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("itemId", workload.anyItem(random));
+            body.put("start", start);
+            body.put("end", start.plusDays(1 + random.nextInt(3)));
+            return workload.getClient().post("/bookings", workload.anyBooker(random), body);
+        }
+
+        @Override
+        void onSuccess(Workload workload, HttpResponse<byte[]> response) {
+            workload.bookingCreated(response.body());
+        }
+    },
+    BOOKING_APPROVE("PATCH /bookings/{id}") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            PendingApproval pending = workload.getWaiting().poll();
+            if (pending == null) {
+                return null;
+            }
+            return workload.getClient().patch("/bookings/" + pending.getBookingId() + "?approved="
+                    + (random.nextInt(5) != 0), pending.getOwnerId());
+        }
+    },
+    BOOKING_BY_ID("GET /bookings/{id}") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            Dataset dataset = workload.getDataset();
+            int index = random.nextInt(dataset.getBookingIds().length);
+            return workload.getClient().get("/bookings/" + dataset.getBookingIds()[index],
+                    dataset.getBookingBookerIds()[index]);
+        }
+    },
+    BOOKINGS_OF_BOOKER("GET /bookings") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            return workload.getClient().get("/bookings?size=20&state=" + anyState(random),
+                    workload.anyBooker(random));
+        }
+    },
+    BOOKINGS_OF_OWNER("GET /bookings/owner") {
+        @Override
+        HttpRequest build(Workload workload, RandomGenerator random) {
+            return workload.getClient().get("/bookings/owner?size=20&state=" + anyState(random),
+                    workload.anyOwner(random));
+        }
+    };
+
+    private static final String[] STATES = {"ALL", "ALL", "FUTURE", "WAITING", "CURRENT", "PAST"};
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    // null when there is nothing to do right now, e.g. no booking is waiting for approval
+    abstract HttpRequest build(Workload workload, RandomGenerator random);
+
+    void onSuccess(Workload workload, HttpResponse<byte[]> response) {
+    }
+
+    private static String anyState(RandomGenerator random) {
+        return STATES[random.nextInt(STATES.length)];
+    }
+}
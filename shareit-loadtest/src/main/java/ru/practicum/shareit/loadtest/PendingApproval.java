@@ -0,0 +1,13 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// a WAITING booking and the owner allowed to approve it
+@Getter
+@AllArgsConstructor
+public class PendingApproval {
+
+    private final long bookingId;
+    private final long ownerId;
+}
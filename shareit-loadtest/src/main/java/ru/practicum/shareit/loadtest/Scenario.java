@@ -0,0 +1,77 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+@Getter
+public enum Scenario {
+    // anonymous browsing: text search, free-window search, item cards
+    SEARCH_HEAVY("search-heavy", Map.of(
+            Operation.SEARCH, 50,
+            Operation.SEARCH_AVAILABLE, 25,
+            Operation.ITEM_BY_ID, 20,
+            Operation.ITEM_CALENDAR, 5)),
+    // bookers creating and checking bookings while owners approve them
+    BOOKING_HEAVY("booking-heavy", Map.of(
+            Operation.BOOKING_CREATE, 35,
+            Operation.BOOKING_APPROVE, 20,
+            Operation.BOOKINGS_OF_BOOKER, 20,
+            Operation.BOOKING_BY_ID, 10,
+            Operation.SEARCH_AVAILABLE, 15)),
+    // owners looking at their items, incoming bookings and calendars
+    OWNER_DASHBOARD("owner-dashboard", Map.of(
+            Operation.ITEMS_OF_OWNER, 35,
+            Operation.BOOKINGS_OF_OWNER, 35,
+            Operation.ITEM_CALENDAR, 20,
+            Operation.ITEM_BY_ID, 10));
+
+    private final String cliName;
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulative;
+
+    Scenario(String cliName, Map<Operation, Integer> weights) {
+        this.cliName = cliName;
+        this.weights = new EnumMap<>(weights);
+        this.operations = this.weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += this.weights.get(operations[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    public Operation pick(RandomGenerator random) {
+        int point = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (point < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights of " + this + " are broken");
+    }
+
+    public static List<Scenario> fromName(String name) {
+        if ("all".equalsIgnoreCase(name)) {
+            return List.of(values());
+        }
+        return List.of(Arrays.stream(values())
+                .filter(s -> s.cliName.equalsIgnoreCase(name) || s.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + name
+                        + ", expected all or one of " + Arrays.stream(values())
+                        .map(Scenario::getCliName)
+                        .toList())));
+    }
+
+    @Override
+    public String toString() {
+        return cliName;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Locale;
+
+// request-handling threads of the locally started server and gateway (spring.threads.virtual.enabled)
+public enum ThreadMode {
+    // Tomcat's bounded worker pool; excess connections queue until a worker frees up
+    PLATFORM,
+    // one virtual thread per request; blocking calls park instead of holding a worker
+    VIRTUAL;
+
+    public String springProperty() {
+        return "--spring.threads.virtual.enabled=" + (this == VIRTUAL);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
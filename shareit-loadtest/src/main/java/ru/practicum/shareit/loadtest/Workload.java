@@ -0,0 +1,66 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+
+// state shared by the operations of a run: the seeded ids plus bookings created during it that await approval
+@Getter
+public class Workload {
+
+    private final ShareItClient client;
+    private final Dataset dataset;
+    private final LocalDateTime origin;
+    private final Queue<PendingApproval> waiting = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Long> ownerByItem = new HashMap<>();
+
+    public Workload(ShareItClient client, Dataset dataset) {
+        this.client = client;
+        this.dataset = dataset;
+        this.origin = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+        this.waiting.addAll(dataset.getWaiting());
+        for (int i = 0; i < dataset.getItemIds().length; i++) {
+            ownerByItem.put(dataset.getItemIds()[i], dataset.getItemOwnerIds()[i]);
+        }
+    }
+
+    public long anyOwner(RandomGenerator random) {
+        return pick(dataset.getOwnerIds(), random);
+    }
+
+    public long anyBooker(RandomGenerator random) {
+        return pick(dataset.getBookerIds(), random);
+    }
+
+    public long anyItem(RandomGenerator random) {
+        return pick(dataset.getItemIds(), random);
+    }
+
+    public String anySearchTerm(RandomGenerator random) {
+        return DatasetSeeder.NOUNS[random.nextInt(DatasetSeeder.NOUNS.length)];
+    }
+
+    // somewhere in the coming year, clear of the windows the seeder booked
+    public LocalDateTime anyFutureStart(RandomGenerator random) {
+        return origin.plusDays(30 + random.nextInt(365)).plusHours(random.nextInt(24));
+    }
+
+    public void bookingCreated(byte[] body) {
+        JsonNode booking = client.readTree(body);
+        Long ownerId = ownerByItem.get(booking.path("item").path("id").asLong());
+        if (ownerId != null) {
+            waiting.add(new PendingApproval(booking.path("id").asLong(), ownerId));
+        }
+    }
+
+    private static long pick(long[] ids, RandomGenerator random) {
+        return ids[random.nextInt(ids.length)];
+    }
+}
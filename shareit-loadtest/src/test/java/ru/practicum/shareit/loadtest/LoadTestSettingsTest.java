@@ -0,0 +1,69 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadTestSettingsTest {
+
+    @Test
+    void parse_shouldUseDefaults() {
+        LoadTestSettings settings = LoadTestSettings.parse();
+
+        assertEquals(List.of(Scenario.values()), settings.getScenarios());
+        assertEquals(LoadMode.CLOSED, settings.getMode());
+        assertEquals(List.of(32), settings.getConcurrency());
+        assertEquals(List.of(GatewayMode.MVC), settings.getGateways());
+        assertEquals(List.of(ThreadMode.PLATFORM), settings.getServerThreads());
+        assertEquals(Duration.ofSeconds(60), settings.getDuration());
+        assertNull(settings.getTarget());
+    }
+
+    @Test
+    void parse_shouldReadOptions() {
+        LoadTestSettings settings = LoadTestSettings.parse("--scenarios=search-heavy,booking-heavy",
+                "--mode=open", "--rate=800", "--duration=1m30s", "--items=100", "--apps=/opt/shareit",
+                "--target=http://localhost:8080");
+
+        assertEquals(List.of(Scenario.SEARCH_HEAVY, Scenario.BOOKING_HEAVY), settings.getScenarios());
+        assertEquals(LoadMode.OPEN, settings.getMode());
+        assertEquals(800, settings.getRate());
+        assertEquals(Duration.ofSeconds(90), settings.getDuration());
+        assertEquals(100, settings.getItems());
+        assertEquals(Path.of("/opt/shareit"), settings.getAppsDir());
+        assertEquals("http://localhost:8080", settings.getTarget());
+    }
+
+    @Test
+    void parse_shouldReadConcurrencyLevelsAndThreadModes() {
+        LoadTestSettings settings = LoadTestSettings.parse("--concurrency=50, 500,5000",
+                "--server-threads=platform,VIRTUAL");
+
+        assertEquals(List.of(50, 500, 5000), settings.getConcurrency());
+        assertEquals(List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL), settings.getServerThreads());
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("--concurrency=50,0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("--server-threads=green"));
+    }
+
+    @Test
+    void parse_shouldReadGateways() {
+        LoadTestSettings settings = LoadTestSettings.parse("--gateway=mvc, REACTIVE,mvc");
+
+        assertEquals(List.of(GatewayMode.MVC, GatewayMode.REACTIVE), settings.getGateways());
+        assertEquals("shareit-gateway-reactive.jar", GatewayMode.REACTIVE.jar());
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("--gateway=servlet"));
+    }
+
+    @Test
+    void parse_shouldRejectUnknownOrMalformedOptions() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("--threads=4"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("rate=4"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parse("--rate=0"));
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioTest {
+
+    @Test
+    void pick_shouldFollowWeights() {
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Operation, Integer> picked = new EnumMap<>(Operation.class);
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            picked.merge(Scenario.BOOKING_HEAVY.pick(random), 1, Integer::sum);
+        }
+
+        assertEquals(Scenario.BOOKING_HEAVY.getWeights().keySet(), picked.keySet());
+        int total = Scenario.BOOKING_HEAVY.getWeights().values().stream().mapToInt(Integer::intValue).sum();
+        Scenario.BOOKING_HEAVY.getWeights().forEach((operation, weight) -> {
+            double expected = (double) weight / total;
+            double actual = (double) picked.get(operation) / draws;
+            assertTrue(Math.abs(expected - actual) < 0.01, operation + ": " + actual + " vs " + expected);
+        });
+    }
+
+    @Test
+    void fromName_shouldAcceptCliAndEnumNames() {
+        assertEquals(List.of(Scenario.SEARCH_HEAVY), Scenario.fromName("search-heavy"));
+        assertEquals(List.of(Scenario.OWNER_DASHBOARD), Scenario.fromName("OWNER_DASHBOARD"));
+        assertEquals(List.of(Scenario.values()), Scenario.fromName("all"));
+        assertThrows(IllegalArgumentException.class, () -> Scenario.fromName("checkout"));
+    }
+}
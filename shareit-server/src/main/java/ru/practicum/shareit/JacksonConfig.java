@@ -0,0 +1,21 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Jackson keeps its read/write buffers in a ThreadLocal by default; a virtual thread lives for one request,
+    // so every request would allocate fresh buffers. A shared pool recycles them across threads instead
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Jackson2ObjectMapperBuilderCustomizer sharedBufferRecyclerPool() {
+        return builder -> builder.postConfigurer(mapper ->
+                mapper.getFactory().setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool()));
+    }
+}
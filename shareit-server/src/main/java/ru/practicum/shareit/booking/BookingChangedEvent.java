@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingChangedEvent {
+
+    private final Long bookingId;
+    private final Long itemId;
+    private final BookingStatus status;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    public static BookingChangedEvent of(Booking booking) {
+        return new BookingChangedEvent(booking.getId(), booking.getItem().getId(), booking.getStatus(),
+                booking.getStart(), booking.getEnd());
+    }
+
+    public static BookingChangedEvent of(BookingView booking) {
+        return new BookingChangedEvent(booking.getId(), booking.getItemId(), booking.getStatus(),
+                booking.getStart(), booking.getEnd());
+    }
+}
@@ -1,6 +1,11 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -8,10 +13,17 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking>,
+        BookingViewRepository {
+
+    // responses and access checks read the item's name and owner id
+    @EntityGraph(attributePaths = "item")
+    Optional<Booking> findWithItemById(Long id);
 
     List<Booking> findAllByBooker(User booker);
 
@@ -19,7 +31,91 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     boolean existsByBookerIdAndItemIdAndStatusAndEndBefore(Long bookerId, Long itemId, BookingStatus status, LocalDateTime end);
 
-    List<Booking> findAllByBookerOrderByStartDesc(User booker);
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.item.id IN :itemIds
+              AND b.status = :status
+              AND b.end < :now
+              AND b.end = (
+                   SELECT MAX(l.end) FROM Booking l
+                   WHERE l.item.id = b.item.id
+                     AND l.status = :status
+                     AND l.end < :now
+              )
+            """)
+    List<Booking> findLastBookings(@Param("itemIds") Collection<Long> itemIds,
+                                   @Param("status") BookingStatus status,
+                                   @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.item.id IN :itemIds
+              AND b.status = :status
+              AND b.start > :now
+              AND b.start = (
+                   SELECT MIN(n.start) FROM Booking n
+                   WHERE n.item.id = b.item.id
+                     AND n.status = :status
+                     AND n.start > :now
+              )
+            """)
+    List<Booking> findNextBookings(@Param("itemIds") Collection<Long> itemIds,
+                                   @Param("status") BookingStatus status,
+                                   @Param("now") LocalDateTime now);
+
+    // half-open windows, matching the tsrange exclusion constraint in schema.sql
+    @Query("""
+            SELECT COUNT(b) > 0 FROM Booking b
+            WHERE b.item.id = :itemId
+              AND b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED
+              AND b.end > :start
+              AND b.start < :end
+            """)
+    boolean existsApprovedOverlap(@Param("itemId") Long itemId,
+                                  @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end);
+
+    @Query("""
+            SELECT b.start AS start, b.end AS end FROM Booking b
+            WHERE b.item.id = :itemId
+              AND b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED
+            ORDER BY b.start
+            """)
+    List<BookingInterval> findApprovedIntervals(@Param("itemId") Long itemId);
+
+    @Query(value = """
+            SELECT i.id FROM items i
+            WHERE i.id = (SELECT b.item_id FROM bookings b WHERE b.id = :bookingId)
+              AND i.owner_id = :ownerId
+            FOR UPDATE
+            """, nativeQuery = true)
+    Optional<Long> lockItemOfBooking(@Param("bookingId") Long bookingId, @Param("ownerId") Long ownerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b SET b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED
+            WHERE b.id = :bookingId
+              AND b.status = ru.practicum.shareit.booking.model.BookingStatus.WAITING
+              AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)
+              AND NOT EXISTS (
+                   SELECT o.id FROM Booking o
+                   WHERE o.item.id = b.item.id
+                     AND o.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED
+                     AND o.end > b.start
+                     AND o.start < b.end
+              )
+            """)
+    int approveIfOwnerAndFree(@Param("bookingId") Long bookingId, @Param("ownerId") Long ownerId);
 
-    List<Booking> findAllByItem_Owner_IdOrderByStartDesc(Long ownerId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b SET b.status = :status
+            WHERE b.id = :bookingId
+              AND b.status = :expected
+              AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)
+            """)
+    int updateStatusIfOwner(@Param("bookingId") Long bookingId,
+                            @Param("ownerId") Long ownerId,
+                            @Param("expected") BookingStatus expected,
+                            @Param("status") BookingStatus status);
+}
@@ -1,10 +1,9 @@
 package ru.practicum.shareit.booking;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 
-import java.util.List;
-
 public interface BookingService {
 
     BookingResponseDto create(Long userId, BookingDto bookingDto);
@@ -13,7 +12,7 @@ public interface BookingService {
 
     BookingResponseDto getById(Long userId, Long bookingId);
 
-    List<BookingResponseDto> getAllByUser(Long userId, String state);
+    BookingPageDto getAllByUser(Long userId, String state, String cursor, int size);
 
-    List<BookingResponseDto> getAllByOwner(Long ownerId, String state);
+    BookingPageDto getAllByOwner(Long ownerId, String state, String cursor, int size);
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.error.ConflictException;
 import ru.practicum.shareit.error.ForbiddenException;
 import ru.practicum.shareit.error.NotFoundException;
 import ru.practicum.shareit.error.ValidationException;
@@ -17,17 +25,22 @@ import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class BookingServiceImpl implements BookingService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "start", "id");
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // UPDATE ... RETURNING is Postgres syntax; H2 takes the lock, update and re-select path
+    @Value("${shareit.booking.update-returning:false}")
+    private boolean updateReturning;
 
     @Override
     public BookingResponseDto create(Long userId, BookingDto dto) {
@@ -47,33 +60,78 @@ public class BookingServiceImpl implements BookingService {
                 || !dto.getEnd().isAfter(dto.getStart())) {
             throw new ValidationException("Invalid booking dates");
         }
+        if (bookingRepository.existsApprovedOverlap(item.getId(), dto.getStart(), dto.getEnd())) {
+            throw new ConflictException("Item is already booked for these dates");
+        }
 
         Booking booking = BookingMapper.toBooking(dto, item, booker);
         booking.setStatus(BookingStatus.WAITING);
 
-        return BookingMapper.toResponseDto(bookingRepository.save(booking));
+        Booking saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(saved));
+        return BookingMapper.toResponseDto(saved);
     }
 
     @Override
     public BookingResponseDto approve(Long ownerId, Long bookingId, boolean approved) {
-        Booking booking = bookingRepository.findById(bookingId)
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        if (updateReturning) {
+            // a single UPDATE ... RETURNING; the exclusion constraint settles concurrent approvals of one item
+            BookingView booking;
+            try {
+                booking = bookingRepository.updateStatusReturning(bookingId, ownerId, status)
+                        .orElseThrow(() -> refusal(ownerId, bookingId));
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Booking overlaps an approved booking");
+            }
+            eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+            return BookingMapper.toResponseDto(booking);
+        }
+
+        // the WHERE clauses do the owner, status and overlap checks, so concurrent approvals cannot both win
+        int updated = approved
+                ? approveIfFree(ownerId, bookingId)
+                : bookingRepository.updateStatusIfOwner(bookingId, ownerId, BookingStatus.WAITING,
+                        BookingStatus.REJECTED);
+        if (updated == 0) {
+            throw refusal(ownerId, bookingId);
+        }
+        Booking booking = bookingRepository.findWithItemById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
 
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+        return BookingMapper.toResponseDto(booking);
+    }
+
+    private int approveIfFree(Long ownerId, Long bookingId) {
+        // the item row lock serialises approvals of one item; only the owner's approval gets to take it
+        if (bookingRepository.lockItemOfBooking(bookingId, ownerId).isEmpty()) {
+            return 0;
+        }
+        try {
+            return bookingRepository.approveIfOwnerAndFree(bookingId, ownerId);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Booking overlaps an approved booking");
+        }
+    }
+
+    // only a refused change reads the booking back to tell why
+    private RuntimeException refusal(Long ownerId, Long bookingId) {
+        Booking booking = bookingRepository.findWithItemById(bookingId)
+                .orElseThrow(() -> new NotFoundException("Booking not found"));
         if (!booking.getItem().getOwner().getId().equals(ownerId)) {
-            throw new ForbiddenException("Only owner can approve booking");
+            return new ForbiddenException("Only owner can approve booking");
         }
         if (booking.getStatus() != BookingStatus.WAITING) {
-            throw new ValidationException("Booking already processed");
+            return new ValidationException("Booking already processed");
         }
-
-        booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        return BookingMapper.toResponseDto(bookingRepository.save(booking));
+        return new ConflictException("Booking overlaps an approved booking");
     }
 
     @Override
     @Transactional(readOnly = true)
     public BookingResponseDto getById(Long userId, Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
 
         Long ownerId = booking.getItem().getOwner().getId();
@@ -86,39 +144,32 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponseDto> getAllByUser(Long userId, String state) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-        List<Booking> bookings = bookingRepository.findAllByBookerOrderByStartDesc(user);
-        return filter(bookings, state).stream()
-                .map(BookingMapper::toResponseDto)
-                .collect(Collectors.toList());
+    public BookingPageDto getAllByUser(Long userId, String state, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User not found");
+        }
+        return findPage(BookingSpecifications.byBooker(userId), state, cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponseDto> getAllByOwner(Long ownerId, String state) {
+    public BookingPageDto getAllByOwner(Long ownerId, String state, String cursor, int size) {
         if (!userRepository.existsById(ownerId)) {
             throw new NotFoundException("User not found");
         }
-        List<Booking> bookings = bookingRepository.findAllByItem_Owner_IdOrderByStartDesc(ownerId);
-        return filter(bookings, state).stream()
-                .map(BookingMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return findPage(BookingSpecifications.byItemOwner(ownerId), state, cursor, size);
     }
 
-    private List<Booking> filter(List<Booking> bookings, String stateRaw) {
-        String state = stateRaw == null ? "ALL" : stateRaw.toUpperCase();
-        LocalDateTime now = LocalDateTime.now();
-
-        return bookings.stream().filter(b -> switch (state) {
-            case "ALL" -> true;
-            case "CURRENT" -> !b.getStart().isAfter(now) && !b.getEnd().isBefore(now);
-            case "PAST" -> b.getEnd().isBefore(now);
-            case "FUTURE" -> b.getStart().isAfter(now);
-            case "WAITING" -> b.getStatus() == BookingStatus.WAITING;
-            case "REJECTED" -> b.getStatus() == BookingStatus.REJECTED;
-            default -> throw new ValidationException("Unknown state: " + stateRaw);
-        }).collect(Collectors.toList());
+    private BookingPageDto findPage(Specification<Booking> participant, String stateRaw, String cursor, int size) {
+        if (size <= 0) {
+            throw new ValidationException("Page size must be positive");
+        }
+        BookingState state = BookingState.from(stateRaw);
+        Specification<Booking> spec = participant.and(BookingSpecifications.inState(state, LocalDateTime.now()));
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(BookingSpecifications.after(BookingCursor.decode(cursor)));
+        }
+
+        return BookingMapper.toPageDto(bookingRepository.findViews(spec, NEWEST_FIRST, size + 1), size);
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+// the columns a booking list response needs; built by the query, so rows never enter the persistence context
+@Getter
+@AllArgsConstructor
+public class BookingView {
+
+    private final Long id;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final BookingStatus status;
+    private final Long bookerId;
+    private final Long itemId;
+    private final String itemName;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingViewRepository {
+
+    List<BookingView> findViews(Specification<Booking> spec, Sort sort, int limit);
+
+    // Postgres only: empty when the booking is missing, not the owner's, not waiting or, for APPROVED, overlapping
+    Optional<BookingView> updateStatusReturning(Long bookingId, Long ownerId, BookingStatus status);
+}
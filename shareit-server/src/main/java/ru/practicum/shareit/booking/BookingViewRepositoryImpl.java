@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class BookingViewRepositoryImpl implements BookingViewRepository {
+
+    // the item join supplies the owner check and the item name the response needs, in the same statement
+    private static final String UPDATE_STATUS_RETURNING = """
+            UPDATE bookings b SET status = :status
+            FROM items i
+            WHERE b.id = :bookingId
+              AND b.status = 'WAITING'
+              AND i.id = b.item_id
+              AND i.owner_id = :ownerId
+            %s
+            RETURNING b.id AS id, b.start_date AS start_date, b.end_date AS end_date, b.status AS status,
+                      b.booker_id AS booker_id, b.item_id AS item_id, i.name AS item_name
+            """;
+
+    private static final String NO_APPROVED_OVERLAP = """
+              AND NOT EXISTS (
+                   SELECT 1 FROM bookings o
+                   WHERE o.item_id = b.item_id
+                     AND o.status = 'APPROVED'
+                     AND o.end_date > b.start_date
+                     AND o.start_date < b.end_date
+              )""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findViews(Specification<Booking> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingView> query = cb.createQuery(BookingView.class);
+        Root<Booking> root = query.from(Booking.class);
+        Join<Booking, Item> item = root.join("item");
+
+        // booker and item ids come from the foreign keys; only the item name needs the join
+        query.select(cb.construct(BookingView.class,
+                root.get("id"),
+                root.get("start"),
+                root.get("end"),
+                root.get("status"),
+                root.get("booker").get("id"),
+                item.get("id"),
+                item.get("name")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<BookingView> updateStatusReturning(Long bookingId, Long ownerId, BookingStatus status) {
+        String sql = UPDATE_STATUS_RETURNING.formatted(status == BookingStatus.APPROVED ? NO_APPROVED_OVERLAP : "");
+        List<?> rows = entityManager.createNativeQuery(sql)
+                .setParameter("status", status.name())
+                .setParameter("bookingId", bookingId)
+                .setParameter("ownerId", ownerId)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("start_date", LocalDateTime.class)
+                .addScalar("end_date", LocalDateTime.class)
+                .addScalar("status", String.class)
+                .addScalar("booker_id", Long.class)
+                .addScalar("item_id", Long.class)
+                .addScalar("item_name", String.class)
+                .getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new BookingView((Long) row[0], (LocalDateTime) row[1], (LocalDateTime) row[2],
+                        BookingStatus.valueOf((String) row[3]), (Long) row[4], (Long) row[5], (String) row[6]))
+                .findFirst();
+    }
+}
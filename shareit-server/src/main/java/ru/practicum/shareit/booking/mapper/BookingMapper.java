@@ -1,6 +1,9 @@
 package ru.practicum.shareit.booking.mapper;
 
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingView;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -9,6 +12,9 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dto.UserShortDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class BookingMapper {
 
     public static Booking toBooking(BookingDto dto, Item item, User booker) {
@@ -37,6 +43,34 @@ public class BookingMapper {
                 .build();
     }
 
+    public static BookingResponseDto toResponseDto(BookingView booking) {
+        return BookingResponseDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .status(booking.getStatus())
+                .booker(UserShortDto.builder()
+                        .id(booking.getBookerId())
+                        .build())
+                .item(ItemShortDto.builder()
+                        .id(booking.getItemId())
+                        .name(booking.getItemName())
+                        .build())
+                .build();
+    }
+
+    // rows holds up to size + 1 views; the extra one only signals that a next page exists
+    public static BookingPageDto toPageDto(List<BookingView> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<BookingView> page = hasNext ? rows.subList(0, size) : rows;
+        return BookingPageDto.builder()
+                .bookings(page.stream()
+                        .map(BookingMapper::toResponseDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? BookingCursor.of(page.get(size - 1)).encode() : null)
+                .build();
+    }
+
     public static BookingDto toShortDto(Booking booking) {
         return BookingDto.builder()
                 .id(booking.getId())
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+// COPY ... FROM STDIN in CSV, streamed straight from the generator without materialising the table
+public class CopyRowSink implements RowSink {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Writer out;
+    private final char[] timestamp = "0000-00-00 00:00:00".toCharArray();
+    private boolean firstColumn = true;
+    private long rows;
+
+    public CopyRowSink(Connection connection, String table, String... columns) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        this.out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pg, sql, BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void value(long value) throws SQLException {
+        separator();
+        write(Long.toString(value));
+    }
+
+    @Override
+    public void value(String value) throws SQLException {
+        separator();
+        write('"' + value.replace("\"", "\"\"") + '"');
+    }
+
+    @Override
+    public void value(boolean value) throws SQLException {
+        separator();
+        write(value ? "t" : "f");
+    }
+
+    @Override
+    public void value(LocalDateTime value) throws SQLException {
+        separator();
+        digits(0, 4, value.getYear());
+        digits(5, 2, value.getMonthValue());
+        digits(8, 2, value.getDayOfMonth());
+        digits(11, 2, value.getHour());
+        digits(14, 2, value.getMinute());
+        digits(17, 2, value.getSecond());
+        try {
+            out.write(timestamp);
+        } catch (IOException e) {
+            throw new SQLException("COPY stream failed", e);
+        }
+    }
+
+    @Override
+    public void nullValue() throws SQLException {
+        // an unquoted empty field is NULL in CSV mode
+        separator();
+    }
+
+    @Override
+    public void endRow() throws SQLException {
+        write("\n");
+        firstColumn = true;
+        rows++;
+    }
+
+    @Override
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new SQLException("COPY failed", e);
+        }
+    }
+
+    private void separator() throws SQLException {
+        if (!firstColumn) {
+            write(",");
+        }
+        firstColumn = false;
+    }
+
+    private void digits(int offset, int width, int value) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            timestamp[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void write(String text) throws SQLException {
+        try {
+            out.write(text);
+        } catch (IOException e) {
+            throw new SQLException("COPY stream failed", e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// --spring.profiles.active=datagen fills an empty database with a reproducible, skewed dataset:
+// Zipf-distributed item ownership and item popularity, and booking histories reaching back several years.
+// Ids are assigned here (1..n per table) and the sequences are moved past them afterwards
+@Slf4j
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    static final List<String> TABLES = List.of("users", "requests", "items", "bookings", "comments");
+
+    private static final String[] FIRST_NAMES = {
+            "Anna", "Boris", "Daria", "Egor", "Irina", "Ivan", "Maria", "Nikita", "Olga", "Pavel",
+            "Sofia", "Timur", "Vera", "Yuri", "Alex", "Kate", "Leo", "Mila", "Oleg", "Zoe"};
+    private static final String[] LAST_NAMES = {
+            "Ivanov", "Petrova", "Smirnov", "Kuznetsova", "Popov", "Sokolova", "Lebedev", "Kozlova",
+            "Novikov", "Morozova", "Volkov", "Orlova", "Fedorov", "Mikhailova", "Belov", "Tarasova"};
+    private static final String[] NOUNS = {
+            "drill", "saw", "ladder", "tent", "bike", "kayak", "projector", "mixer", "sander", "grill",
+            "hammer", "scooter", "camera", "speaker", "trailer", "mower", "generator", "snowboard"};
+    private static final String[] ADJECTIVES = {
+            "Cordless", "Electric", "Folding", "Heavy", "Compact", "Garden", "Camping", "Kids",
+            "Professional", "Vintage", "Portable", "Waterproof"};
+    private static final String[] COMMENTS = {
+            "Worked perfectly", "Owner was very helpful", "A bit worn but did the job",
+            "Exactly as described", "Battery could be better", "Would rent again"};
+
+    private final DataSource dataSource;
+    private final ApplicationContext context;
+    private final long seed;
+    // the dataset's "now": every timestamp and status derives from it, so a seed and anchor always give the same rows
+    private final LocalDateTime anchor;
+    private final int users;
+    private final int owners;
+    private final int requests;
+    private final int items;
+    private final long bookings;
+    private final double ownerSkew;
+    private final double itemSkew;
+    private final int historyYears;
+    private final double commentRatio;
+    private final boolean truncate;
+    private final boolean deferIndexes;
+    private final boolean exit;
+
+    public DatasetGenerator(DataSource dataSource, ApplicationContext context,
+                            @Value("${shareit.datagen.seed:42}") long seed,
+                            @Value("${shareit.datagen.anchor:2026-01-01T00:00:00}") String anchor,
+                            @Value("${shareit.datagen.users:100000}") int users,
+                            @Value("${shareit.datagen.owners:10000}") int owners,
+                            @Value("${shareit.datagen.requests:20000}") int requests,
+                            @Value("${shareit.datagen.items:200000}") int items,
+                            @Value("${shareit.datagen.bookings:5000000}") long bookings,
+                            @Value("${shareit.datagen.owner-skew:1.2}") double ownerSkew,
+                            @Value("${shareit.datagen.item-skew:0.9}") double itemSkew,
+                            @Value("${shareit.datagen.history-years:5}") int historyYears,
+                            @Value("${shareit.datagen.comment-ratio:0.2}") double commentRatio,
+                            @Value("${shareit.datagen.truncate:false}") boolean truncate,
+                            @Value("${shareit.datagen.defer-indexes:true}") boolean deferIndexes,
+                            @Value("${shareit.datagen.exit:true}") boolean exit) {
+        if (owners > users) {
+            throw new IllegalArgumentException("shareit.datagen.owners cannot exceed shareit.datagen.users");
+        }
+        this.dataSource = dataSource;
+        this.context = context;
+        this.seed = seed;
+        this.anchor = LocalDateTime.parse(anchor);
+        this.users = users;
+        this.owners = owners;
+        this.requests = requests;
+        this.items = items;
+        this.bookings = bookings;
+        this.ownerSkew = ownerSkew;
+        this.itemSkew = itemSkew;
+        this.historyYears = historyYears;
+        this.commentRatio = commentRatio;
+        this.truncate = truncate;
+        this.deferIndexes = deferIndexes;
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            prepare(connection, postgres);
+            DeferredIndexes deferred = postgres && deferIndexes ? DeferredIndexes.drop(connection, TABLES) : null;
+
+            try {
+                generateUsers(postgres);
+                generateRequests(postgres, anchor);
+                int[] itemOwners = generateItems(postgres);
+                generateBookingsAndComments(postgres, anchor, itemOwners);
+            } finally {
+                if (deferred != null) {
+                    deferred.restore(connection);
+                }
+            }
+            finish(connection, postgres);
+        }
+        log.info("Dataset generated in {}s", (System.nanoTime() - started) / 1_000_000_000);
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void prepare(Connection connection, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                if (postgres) {
+                    statement.execute("TRUNCATE comments, bookings, items, requests, users CASCADE");
+                } else {
+                    for (String table : TABLES.reversed()) {
+                        statement.execute("DELETE FROM " + table);
+                    }
+                }
+                return;
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    throw new IllegalStateException(
+                            "users is not empty; set shareit.datagen.truncate=true to replace the data");
+                }
+            }
+        }
+    }
+
+    private void generateUsers(boolean postgres) throws SQLException {
+        SplittableRandom random = random(1);
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = sink(connection, postgres, "users", "id", "name", "email")) {
+            for (long id = 1; id <= users; id++) {
+                String first = pick(FIRST_NAMES, random);
+                String last = pick(LAST_NAMES, random);
+                sink.value(id);
+                sink.value(first + " " + last);
+                sink.value(first.toLowerCase() + "." + last.toLowerCase() + "." + id + "@example.com");
+                sink.endRow();
+            }
+            log.info("users: {} rows", sink.getRows());
+        }
+    }
+
+    private void generateRequests(boolean postgres, LocalDateTime now) throws SQLException {
+        SplittableRandom random = random(2);
+        long historySeconds = historySeconds(now);
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = sink(connection, postgres, "requests", "id", "description", "requester_id", "created")) {
+            for (long id = 1; id <= requests; id++) {
+                sink.value(id);
+                sink.value("Looking for a " + pick(NOUNS, random) + " for a few days");
+                sink.value(1 + random.nextLong(users));
+                sink.value(now.minusSeconds(random.nextLong(historySeconds)));
+                sink.endRow();
+            }
+            log.info("requests: {} rows", sink.getRows());
+        }
+    }
+
+    // owner of item i is a Zipf rank over the first `owners` users, so a handful of owners hold most items
+    private int[] generateItems(boolean postgres) throws SQLException {
+        SplittableRandom random = random(3);
+        ZipfSampler ownerRanks = new ZipfSampler(owners, ownerSkew);
+        int[] itemOwners = new int[items + 1];
+        int[] ownedItems = new int[owners + 1];
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = sink(connection, postgres, "items",
+                     "id", "name", "description", "is_available", "owner_id", "request_id")) {
+            for (int id = 1; id <= items; id++) {
+                int owner = ownerRanks.sample(random);
+                itemOwners[id] = owner;
+                ownedItems[owner]++;
+                String noun = pick(NOUNS, random);
+                sink.value(id);
+                sink.value(pick(ADJECTIVES, random) + " " + noun);
+                sink.value("Well kept " + noun + ", lot " + id);
+                sink.value(random.nextInt(10) != 0);
+                sink.value(owner);
+                if (requests > 0 && random.nextInt(20) == 0) {
+                    sink.value(1 + random.nextLong(requests));
+                } else {
+                    sink.nullValue();
+                }
+                sink.endRow();
+            }
+            log.info("items: {} rows, largest owner holds {}", sink.getRows(), ownedItems[1]);
+        }
+        return itemOwners;
+    }
+
+    // one sweep through time, so each item sees its bookings in start order and an APPROVED booking is only
+    // emitted when it does not overlap the previous approved one (bookings_no_approved_overlap holds).
+    // Popular items therefore collect mostly REJECTED and CANCELED requests, as a contended item would
+    private void generateBookingsAndComments(boolean postgres, LocalDateTime now, int[] itemOwners)
+            throws SQLException {
+        SplittableRandom random = random(4);
+        SplittableRandom commentRandom = random(5);
+        ZipfSampler itemRanks = new ZipfSampler(items, itemSkew);
+        long stride = coprimeStride(items);
+        long historyStart = now.toEpochSecond(ZoneOffset.UTC) - historySeconds(now);
+        long span = now.plusDays(90).toEpochSecond(ZoneOffset.UTC) - historyStart;
+        long nowSecond = now.toEpochSecond(ZoneOffset.UTC);
+        long[] approvedUntil = new long[items + 1];
+        long commentId = 0;
+
+        try (Connection bookingConnection = dataSource.getConnection();
+             Connection commentConnection = dataSource.getConnection();
+             RowSink bookingSink = sink(bookingConnection, postgres, "bookings",
+                     "id", "start_date", "end_date", "item_id", "booker_id", "status");
+             RowSink commentSink = sink(commentConnection, postgres, "comments",
+                     "id", "text", "item_id", "author_id", "created")) {
+            for (long id = 1; id <= bookings; id++) {
+                // rank 1 is the most popular item; the stride spreads popular ranks over ids and owners
+                int item = (int) ((itemRanks.sample(random) - 1) * stride % items) + 1;
+                long start = historyStart + (long) ((double) span * (id - 1) / bookings);
+                long end = start + 3600L * (1 + Math.min((long) (-Math.log(1 - random.nextDouble()) * 36), 24 * 30));
+                long booker = 1 + random.nextLong(users);
+                if (booker == itemOwners[item]) {
+                    booker = booker % users + 1;
+                }
+
+                // both rolls are always drawn, so the branch taken does not shift the random stream of later rows
+                int approveRoll = random.nextInt(100);
+                int rejectRoll = random.nextInt(100);
+                boolean free = start >= approvedUntil[item];
+                BookingStatus status;
+                if (start > nowSecond) {
+                    status = free && approveRoll < 50 ? BookingStatus.APPROVED : BookingStatus.WAITING;
+                } else if (free && approveRoll < 85) {
+                    status = BookingStatus.APPROVED;
+                } else {
+                    status = rejectRoll < 60 ? BookingStatus.REJECTED : BookingStatus.CANCELED;
+                }
+                if (status == BookingStatus.APPROVED) {
+                    approvedUntil[item] = end;
+                }
+
+                bookingSink.value(id);
+                bookingSink.value(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC));
+                bookingSink.value(LocalDateTime.ofEpochSecond(end, 0, ZoneOffset.UTC));
+                bookingSink.value(item);
+                bookingSink.value(booker);
+                bookingSink.value(status.name());
+                bookingSink.endRow();
+
+                if (status == BookingStatus.APPROVED && end < nowSecond && commentRandom.nextDouble() < commentRatio) {
+                    commentSink.value(++commentId);
+                    commentSink.value(pick(COMMENTS, commentRandom));
+                    commentSink.value(item);
+                    commentSink.value(booker);
+                    commentSink.value(LocalDateTime.ofEpochSecond(
+                            Math.min(end + commentRandom.nextLong(72 * 3600L), nowSecond), 0, ZoneOffset.UTC));
+                    commentSink.endRow();
+                }
+                if (id % 5_000_000 == 0) {
+                    log.info("bookings: {} of {}", id, bookings);
+                }
+            }
+            log.info("bookings: {} rows, comments: {} rows", bookingSink.getRows(), commentSink.getRows());
+        }
+    }
+
+    // moves each id sequence past the generated ids; the extra allocation block keeps pooled ranges clear
+    private void finish(Connection connection, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                long next = maxId + 100;
+                if (postgres) {
+                    statement.execute("SELECT setval('" + table + "_id_seq', " + next + ")");
+                    statement.execute("ANALYZE " + table);
+                } else {
+                    statement.execute("ALTER SEQUENCE " + table + "_id_seq RESTART WITH " + next);
+                }
+            }
+        }
+    }
+
+    private RowSink sink(Connection connection, boolean postgres, String table, String... columns)
+            throws SQLException {
+        return postgres
+                ? new CopyRowSink(connection, table, columns)
+                : new InsertRowSink(connection, table, columns);
+    }
+
+    // each table draws from its own stream, so changing one table's size leaves the others' rows unchanged
+    private SplittableRandom random(int table) {
+        return new SplittableRandom(seed * 1_000_003 + table);
+    }
+
+    private long historySeconds(LocalDateTime now) {
+        return now.toEpochSecond(ZoneOffset.UTC) - now.minusYears(historyYears).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long coprimeStride(int n) {
+        long stride = 1_000_003;
+        while (gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return stride % n == 0 ? 1 : stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// Postgres only: secondary indexes, foreign keys and exclusion constraints of the loaded tables are dropped
+// before COPY and rebuilt once afterwards, which is far cheaper than maintaining them row by row.
+// Definitions are read from the catalog, so this follows whatever schema.sql currently declares
+@Slf4j
+class DeferredIndexes {
+
+    private static final String MAINTENANCE_WORK_MEM = "1GB";
+    private static final String INDEXES = """
+            SELECT i.indexname, i.indexdef FROM pg_indexes i
+            WHERE i.schemaname = current_schema()
+              AND i.tablename = ANY (?)
+              AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)
+            """;
+    private static final String CONSTRAINTS = """
+            SELECT t.relname, c.conname, pg_get_constraintdef(c.oid) FROM pg_constraint c
+            JOIN pg_class t ON t.oid = c.conrelid
+            JOIN pg_namespace n ON n.oid = t.relnamespace
+            WHERE n.nspname = current_schema()
+              AND t.relname = ANY (?)
+              AND c.contype IN ('f', 'x')
+            ORDER BY c.contype DESC
+            """;
+
+    private final List<String> restoreIndexes = new ArrayList<>();
+    private final List<String> restoreConstraints = new ArrayList<>();
+
+    private DeferredIndexes() {
+    }
+
+    static DeferredIndexes drop(Connection connection, List<String> tables) throws SQLException {
+        DeferredIndexes deferred = new DeferredIndexes();
+        List<String> drops = new ArrayList<>();
+        try (PreparedStatement constraints = connection.prepareStatement(CONSTRAINTS);
+             PreparedStatement indexes = connection.prepareStatement(INDEXES)) {
+            constraints.setArray(1, connection.createArrayOf("text", tables.toArray()));
+            try (ResultSet rs = constraints.executeQuery()) {
+                while (rs.next()) {
+                    drops.add("ALTER TABLE " + rs.getString(1) + " DROP CONSTRAINT " + rs.getString(2));
+                    deferred.restoreConstraints.add("ALTER TABLE " + rs.getString(1)
+                            + " ADD CONSTRAINT " + rs.getString(2) + " " + rs.getString(3));
+                }
+            }
+            indexes.setArray(1, connection.createArrayOf("text", tables.toArray()));
+            try (ResultSet rs = indexes.executeQuery()) {
+                while (rs.next()) {
+                    drops.add("DROP INDEX " + rs.getString(1));
+                    deferred.restoreIndexes.add(rs.getString(2));
+                }
+            }
+        }
+        execute(connection, drops);
+        log.info("Deferred {} indexes and {} constraints until after the load",
+                deferred.restoreIndexes.size(), deferred.restoreConstraints.size());
+        return deferred;
+    }
+
+    void restore(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            // index builds sort in memory up to this limit and spill to disk beyond it
+            statement.execute("SET maintenance_work_mem = '" + MAINTENANCE_WORK_MEM + "'");
+            for (String sql : restoreIndexes) {
+                timed(statement, sql);
+            }
+            for (String sql : restoreConstraints.reversed()) {
+                timed(statement, sql);
+            }
+            statement.execute("RESET maintenance_work_mem");
+        }
+        log.info("Rebuilt indexes and constraints in {}s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private static void timed(Statement statement, String sql) throws SQLException {
+        long started = System.nanoTime();
+        statement.execute(sql);
+        log.info("{} ms: {}", (System.nanoTime() - started) / 1_000_000, sql);
+    }
+
+    private static void execute(Connection connection, List<String> statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+// multi-row INSERT for databases without COPY (H2 in tests); ROWS_PER_STATEMENT rows per statement,
+// STATEMENTS_PER_BATCH statements per JDBC batch, one commit at the end
+public class InsertRowSink implements RowSink {
+
+    private static final int ROWS_PER_STATEMENT = 100;
+    private static final int STATEMENTS_PER_BATCH = 20;
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final PreparedStatement statement;
+    private final Object[] pending;
+    private int filled;
+    private int batched;
+    private long rows;
+
+    public InsertRowSink(Connection connection, String table, String... columns) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.pending = new Object[ROWS_PER_STATEMENT * columns.length];
+        connection.setAutoCommit(false);
+        this.statement = connection.prepareStatement(sql(ROWS_PER_STATEMENT));
+    }
+
+    @Override
+    public void value(long value) {
+        pending[filled++] = value;
+    }
+
+    @Override
+    public void value(String value) {
+        pending[filled++] = value;
+    }
+
+    @Override
+    public void value(boolean value) {
+        pending[filled++] = value;
+    }
+
+    @Override
+    public void value(LocalDateTime value) {
+        pending[filled++] = Timestamp.valueOf(value);
+    }
+
+    @Override
+    public void nullValue() {
+        pending[filled++] = null;
+    }
+
+    @Override
+    public void endRow() throws SQLException {
+        rows++;
+        if (filled == pending.length) {
+            bind(statement, filled);
+            statement.addBatch();
+            filled = 0;
+            if (++batched == STATEMENTS_PER_BATCH) {
+                statement.executeBatch();
+                batched = 0;
+            }
+        }
+    }
+
+    @Override
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (statement) {
+            if (batched > 0) {
+                statement.executeBatch();
+            }
+            if (filled > 0) {
+                try (PreparedStatement tail = connection.prepareStatement(sql(filled / columns.length))) {
+                    bind(tail, filled);
+                    tail.executeUpdate();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private void bind(PreparedStatement target, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            if (pending[i] == null) {
+                target.setNull(i + 1, Types.NULL);
+            } else {
+                target.setObject(i + 1, pending[i]);
+            }
+        }
+    }
+
+    private String sql(int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, row));
+    }
+}
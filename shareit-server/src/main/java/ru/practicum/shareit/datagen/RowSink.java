@@ -0,0 +1,25 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+// one table's rows, written column by column in declaration order; null values are passed as null
+public interface RowSink extends AutoCloseable {
+
+    void value(long value) throws SQLException;
+
+    void value(String value) throws SQLException;
+
+    void value(boolean value) throws SQLException;
+
+    void value(LocalDateTime value) throws SQLException;
+
+    void nullValue() throws SQLException;
+
+    void endRow() throws SQLException;
+
+    long getRows();
+
+    @Override
+    void close() throws SQLException;
+}
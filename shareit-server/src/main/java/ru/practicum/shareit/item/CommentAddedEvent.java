@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentAddedEvent {
+
+    private final Long commentId;
+    private final Long itemId;
+}
@@ -1,13 +1,20 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // comment DTOs carry the author's name
+    @EntityGraph(attributePaths = "author")
     List<Comment> findAllByItem(Item item);
+
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findAllByItem_IdIn(Collection<Long> itemIds);
 }
\ No newline at end of file
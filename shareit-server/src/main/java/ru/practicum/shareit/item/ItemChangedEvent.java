@@ -0,0 +1,34 @@
+package ru.practicum.shareit.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.model.Item;
+
+@Getter
+@AllArgsConstructor
+public class ItemChangedEvent {
+
+    private final Long itemId;
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public static ItemChangedEvent created(Item item) {
+        return new ItemChangedEvent(item.getId(), null, Snapshot.of(item));
+    }
+
+    public static ItemChangedEvent updated(Snapshot before, Item item) {
+        return new ItemChangedEvent(item.getId(), before, Snapshot.of(item));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final String name;
+        private final String description;
+        private final boolean available;
+
+        public static Snapshot of(Item item) {
+            return new Snapshot(item.getName(), item.getDescription(), Boolean.TRUE.equals(item.getAvailable()));
+        }
+    }
+}
@@ -1,10 +1,23 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.error.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCalendarDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -12,7 +25,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemDto create(@RequestHeader("X-Sharer-User-Id") Long ownerId,
@@ -20,6 +37,18 @@ public class ItemController {
         return itemService.create(ownerId, itemDto);
     }
 
+    // a JSON array or NDJSON; rows are read from the request stream one at a time
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public List<ItemImportResultDto> importItems(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                 HttpServletRequest request) throws IOException {
+        try (MappingIterator<ItemDto> rows = objectMapper.readerFor(ItemDto.class)
+                .readValues(request.getInputStream())) {
+            return itemImportService.importItems(ownerId, rows);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed payload: " + e.getOriginalMessage());
+        }
+    }
+
     @PatchMapping("/{id}")
     public ItemDto update(@RequestHeader("X-Sharer-User-Id") Long ownerId,
                           @PathVariable Long id,
@@ -33,14 +62,34 @@ public class ItemController {
         return itemService.getById(id, userId);
     }
 
+    @GetMapping("/{id}/calendar")
+    public ItemCalendarDto getCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return itemService.getCalendar(id, from, to);
+    }
+
     @GetMapping
     public List<ItemDto> getByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId) {
         return itemService.getByOwner(ownerId);
     }
 
     @GetMapping("/search")
-    public List<ItemDto> search(@RequestParam String text) {
-        return itemService.search(text);
+    public ResponseEntity<List<ItemDto>> search(@RequestParam String text,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "100") int size) {
+        return withNextCursor(itemService.search(text, cursor, size));
+    }
+
+    @GetMapping("/available")
+    public ResponseEntity<List<ItemDto>> searchAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return withNextCursor(itemService.searchAvailable(start, end, text, cursor, size));
     }
 
     @PostMapping("/{itemId}/comment")
@@ -49,4 +98,12 @@ public class ItemController {
                                  @RequestBody CommentDto commentDto) {
         return itemService.addComment(userId, itemId, commentDto);
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<List<ItemDto>> withNextCursor(ItemPageDto page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+
+import java.util.Iterator;
+import java.util.List;
+
+public interface ItemImportService {
+
+    List<ItemImportResultDto> importItems(Long ownerId, Iterator<ItemDto> rows);
+}
@@ -0,0 +1,156 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.error.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ItemImportServiceImpl implements ItemImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // each chunk commits on its own, so a reported id is always a persisted row
+    @Override
+    public List<ItemImportResultDto> importItems(Long ownerId, Iterator<ItemDto> rows) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new NotFoundException("Owner not found with id: " + ownerId));
+
+        List<ItemImportResultDto> results = new ArrayList<>();
+        List<ItemDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        String malformed = null;
+        while (malformed == null) {
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                chunk.add(rows.next());
+            } catch (RuntimeException e) {
+                // parsers wrap syntax and binding errors in unchecked exceptions while iterating
+                malformed = "Malformed row: " + e.getMessage();
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(owner, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(owner, chunk, results);
+        }
+        if (malformed != null) {
+            // the stream cannot be resynchronised after a syntax error, so the rest of the payload is skipped
+            results.add(failed(results.size(), malformed));
+        }
+        return results;
+    }
+
+    private void importChunk(User owner, List<ItemDto> chunk, List<ItemImportResultDto> results) {
+        int offset = results.size();
+        ItemImportResultDto[] outcome = new ItemImportResultDto[chunk.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistChunk(owner, chunk, offset, outcome));
+        } catch (DataAccessException e) {
+            for (int i = 0; i < outcome.length; i++) {
+                if (outcome[i] == null || outcome[i].getError() == null) {
+                    outcome[i] = failed(offset + i, "Rejected by database: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        results.addAll(List.of(outcome));
+    }
+
+    private void persistChunk(User owner, List<ItemDto> chunk, int offset, ItemImportResultDto[] outcome) {
+        Set<Long> requestIds = chunk.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> requests = requestIds.isEmpty()
+                ? Map.of()
+                : itemRequestRepository.findAllById(requestIds).stream()
+                        .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        List<Item> items = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ItemDto dto = chunk.get(i);
+            String error = validate(dto, requests);
+            if (error != null) {
+                outcome[i] = failed(offset + i, error);
+                continue;
+            }
+            Item item = ItemMapper.toItem(dto, owner);
+            item.setId(null);
+            item.setRequest(dto.getRequestId() != null ? requests.get(dto.getRequestId()) : null);
+            items.add(item);
+            positions.add(i);
+        }
+
+        itemRepository.saveAll(items);
+        itemRepository.flush();
+        entityManager.clear();
+
+        for (int k = 0; k < items.size(); k++) {
+            Item item = items.get(k);
+            int i = positions.get(k);
+            outcome[i] = ItemImportResultDto.builder().index(offset + i).id(item.getId()).build();
+            eventPublisher.publishEvent(ItemChangedEvent.created(item));
+        }
+    }
+
+    private static String validate(ItemDto dto, Map<Long, ItemRequest> requests) {
+        if (dto == null) {
+            return "Item must not be null";
+        }
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            return "Item name must not be blank";
+        }
+        if (dto.getName().length() > 255) {
+            return "Item name must not be longer than 255 characters";
+        }
+        if (dto.getDescription() == null || dto.getDescription().isBlank()) {
+            return "Item description must not be blank";
+        }
+        if (dto.getDescription().length() > 1024) {
+            return "Item description must not be longer than 1024 characters";
+        }
+        if (dto.getAvailable() == null) {
+            return "Item availability must be specified";
+        }
+        if (dto.getRequestId() != null && !requests.containsKey(dto.getRequestId())) {
+            return "Request not found with id: " + dto.getRequestId();
+        }
+        return null;
+    }
+
+    private static ItemImportResultDto failed(int index, String error) {
+        return ItemImportResultDto.builder().index(index).error(error).build();
+    }
+}
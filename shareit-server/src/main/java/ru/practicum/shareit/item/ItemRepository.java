@@ -1,12 +1,15 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemTextView;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -22,6 +25,51 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             """)
     List<Item> search(@Param("text") String text);
 
+    @Query(value = """
+            SELECT i.* FROM items i
+            WHERE i.is_available
+              AND (
+                   LOWER(i.name) LIKE '%' || LOWER(:text) || '%'
+                OR LOWER(i.description) LIKE '%' || LOWER(:text) || '%'
+              )
+            ORDER BY word_similarity(LOWER(:text), LOWER(i.name))
+                   + 0.5 * word_similarity(LOWER(:text), LOWER(COALESCE(i.description, ''))) DESC,
+                     i.id
+            """, nativeQuery = true)
+    List<Item> searchRanked(@Param("text") String text);
+
+    @Query("""
+            SELECT i.id AS id, i.name AS name, i.description AS description FROM Item i
+            WHERE i.available = true AND i.id > :afterId
+            ORDER BY i.id
+            """)
+    List<ItemTextView> findAvailableTextAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // anti-join against APPROVED bookings overlapping the half-open window; an empty text matches every item
+    @Query("""
+            SELECT i FROM Item i
+            WHERE i.available = true
+              AND i.id > :afterId
+              AND (
+                   :text = ''
+                OR LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%'))
+                OR LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%'))
+              )
+              AND NOT EXISTS (
+                   SELECT b.id FROM Booking b
+                   WHERE b.item.id = i.id
+                     AND b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED
+                     AND b.end > :start
+                     AND b.start < :end
+              )
+            ORDER BY i.id
+            """)
+    List<Item> findAvailableBetween(@Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end,
+                                    @Param("text") String text,
+                                    @Param("afterId") long afterId,
+                                    Pageable pageable);
+
     List<Item> findAllByOwner(User owner);
 
     List<Item> findByRequest_Id(Long requestId);
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCalendarDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -15,7 +18,11 @@ public interface ItemService {
 
     List<ItemDto> getByOwner(Long ownerId);
 
-    List<ItemDto> search(String text);
+    ItemPageDto search(String text, String cursor, int size);
+
+    ItemPageDto searchAvailable(LocalDateTime start, LocalDateTime end, String text, String cursor, int size);
+
+    ItemCalendarDto getCalendar(Long itemId, LocalDateTime from, LocalDateTime to);
 
     CommentDto addComment(Long userId, Long itemId, CommentDto commentDto);
 }
\ No newline at end of file
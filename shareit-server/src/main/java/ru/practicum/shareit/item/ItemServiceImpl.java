@@ -1,28 +1,47 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.error.ForbiddenException;
 import ru.practicum.shareit.error.NotFoundException;
 import ru.practicum.shareit.error.ValidationException;
+import ru.practicum.shareit.item.cache.ItemCard;
+import ru.practicum.shareit.item.cache.ItemCardCache;
+import ru.practicum.shareit.item.calendar.ItemCalendar;
+import ru.practicum.shareit.item.calendar.ItemCalendarCache;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCalendarDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +53,14 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ItemCardCache itemCardCache;
+    private final ItemCalendarCache itemCalendarCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${shareit.item-search.mode:LIKE}")
+    private ItemSearchMode searchMode = ItemSearchMode.LIKE;
 
     @Transactional
     @Override
@@ -51,6 +78,7 @@ public class ItemServiceImpl implements ItemService {
         }
 
         Item saved = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.created(saved));
         return ItemMapper.toItemDto(saved);
     }
 
@@ -64,6 +92,8 @@ public class ItemServiceImpl implements ItemService {
             throw new ForbiddenException("Only owner can update item");
         }
 
+        var before = ItemChangedEvent.Snapshot.of(existing);
+
         if (itemDto.getName() != null && !itemDto.getName().isBlank()) {
             existing.setName(itemDto.getName());
         }
@@ -76,11 +106,25 @@ public class ItemServiceImpl implements ItemService {
             existing.setAvailable(itemDto.getAvailable());
         }
 
-        return ItemMapper.toItemDto(itemRepository.save(existing));
+        Item saved = itemRepository.save(existing);
+        eventPublisher.publishEvent(ItemChangedEvent.updated(before, saved));
+        return ItemMapper.toItemDto(saved);
     }
 
+    // a cache hit runs without a transaction; only a miss opens a read-only one to load the card
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public ItemDto getById(Long itemId, Long userId) {
+        return itemCardCache.get(itemId, this::loadCardReadOnly).toDto(userId);
+    }
+
+    private ItemCard loadCardReadOnly(Long itemId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> loadCard(itemId));
+    }
+
+    private ItemCard loadCard(Long itemId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Item with id " + itemId + " not found"));
 
@@ -88,29 +132,32 @@ public class ItemServiceImpl implements ItemService {
                 .map(CommentMapper::toCommentDto)
                 .toList();
 
-        ItemDto dto = ItemMapper.toItemDtoWithComments(item, comments);
-
-        if (item.getOwner().getId().equals(userId)) {
-            var bookings = bookingRepository.findAllByItem(item);
-            var now = LocalDateTime.now();
-
-            var last = bookings.stream()
-                    .filter(b -> b.getStatus() == BookingStatus.APPROVED && b.getEnd().isBefore(now))
-                    .max((b1, b2) -> b1.getEnd().compareTo(b2.getEnd()))
-                    .map(BookingMapper::toShortDto)
-                    .orElse(null);
-
-            var next = bookings.stream()
-                    .filter(b -> b.getStatus() == BookingStatus.APPROVED && b.getStart().isAfter(now))
-                    .min((b1, b2) -> b1.getStart().compareTo(b2.getStart()))
-                    .map(BookingMapper::toShortDto)
-                    .orElse(null);
-
-            dto.setLastBooking(last);
-            dto.setNextBooking(next);
-        }
-
-        return dto;
+        var approved = bookingRepository.findAllByItem(item).stream()
+                .filter(b -> b.getStatus() == BookingStatus.APPROVED)
+                .toList();
+        var now = LocalDateTime.now();
+
+        var last = approved.stream()
+                .filter(b -> b.getEnd().isBefore(now))
+                .max(Comparator.comparing(Booking::getEnd))
+                .map(BookingMapper::toShortDto)
+                .orElse(null);
+
+        var next = approved.stream()
+                .filter(b -> b.getStart().isAfter(now))
+                .min(Comparator.comparing(Booking::getStart))
+                .map(BookingMapper::toShortDto)
+                .orElse(null);
+
+        // last/next shift once an upcoming booking starts or a running one ends
+        var staleAt = approved.stream()
+                .map(b -> b.getStart().isAfter(now) ? b.getStart() : b.getEnd())
+                .filter(t -> !t.isBefore(now))
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+
+        return new ItemCard(ItemMapper.toItemDtoWithComments(item, comments), item.getOwner().getId(),
+                last, next, staleAt);
     }
 
     @Override
@@ -118,44 +165,142 @@ public class ItemServiceImpl implements ItemService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new NotFoundException("Owner not found with id: " + ownerId));
 
-        return itemRepository.findAllByOwner(owner).stream()
-                .map(item -> {
-                    var comments = commentRepository.findAllByItem(item).stream()
-                            .map(CommentMapper::toCommentDto)
-                            .toList();
+        List<Item> items = itemRepository.findAllByOwner(owner);
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-                    var dto = ItemMapper.toItemDtoWithComments(item, comments);
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
 
-                    var bookings = bookingRepository.findAllByItem(item);
-                    var now = LocalDateTime.now();
+        Map<Long, List<CommentDto>> comments = commentRepository.findAllByItem_IdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
 
-                    var last = bookings.stream()
-                            .filter(b -> b.getStatus() == BookingStatus.APPROVED && b.getEnd().isBefore(now))
-                            .max((b1, b2) -> b1.getEnd().compareTo(b2.getEnd()))
-                            .map(BookingMapper::toShortDto)
-                            .orElse(null);
+        Map<Long, BookingDto> lastBookings = bookingRepository
+                .findLastBookings(itemIds, BookingStatus.APPROVED, now).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), BookingMapper::toShortDto, (b1, b2) -> b1));
 
-                    var next = bookings.stream()
-                            .filter(b -> b.getStatus() == BookingStatus.APPROVED && b.getStart().isAfter(now))
-                            .min((b1, b2) -> b1.getStart().compareTo(b2.getStart()))
-                            .map(BookingMapper::toShortDto)
-                            .orElse(null);
+        Map<Long, BookingDto> nextBookings = bookingRepository
+                .findNextBookings(itemIds, BookingStatus.APPROVED, now).stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), BookingMapper::toShortDto, (b1, b2) -> b1));
 
-                    dto.setLastBooking(last);
-                    dto.setNextBooking(next);
+        return items.stream()
+                .map(item -> {
+                    var dto = ItemMapper.toItemDtoWithComments(item,
+                            comments.getOrDefault(item.getId(), Collections.emptyList()));
+                    dto.setLastBooking(lastBookings.get(item.getId()));
+                    dto.setNextBooking(nextBookings.get(item.getId()));
                     return dto;
                 })
                 .toList();
     }
 
     @Override
-    public List<ItemDto> search(String text) {
+    public ItemPageDto search(String text, String cursor, int size) {
+        if (size <= 0) {
+            throw new ValidationException("Page size must be positive");
+        }
+        long afterId = parseCursor(cursor);
         if (text == null || text.isBlank()) {
-            return Collections.emptyList();
+            return ItemPageDto.builder()
+                    .items(Collections.emptyList())
+                    .build();
+        }
+        if (searchMode == ItemSearchMode.INDEX && searchIndex.isReady()) {
+            return searchByIndex(text, afterId, size);
         }
-        return itemRepository.search(text).stream()
+        // the query modes return every hit in one response, as before
+        List<Item> found = switch (searchMode) {
+            case TRIGRAM -> itemRepository.searchRanked(text);
+            case LIKE, INDEX -> itemRepository.search(text);
+        };
+        return ItemPageDto.builder()
+                .items(found.stream()
+                        .map(ItemMapper::toItemDto)
+                        .toList())
+                .build();
+    }
+
+    // hits are keyset-paged by id, so a common prefix loads one page of rows rather than every match
+    private ItemPageDto searchByIndex(String text, long afterId, int size) {
+        long[] ids = searchIndex.search(text);
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        int to = (int) Math.min(ids.length, (long) from + size);
+        if (from >= to) {
+            return ItemPageDto.builder()
+                    .items(Collections.emptyList())
+                    .build();
+        }
+        List<ItemDto> items = itemRepository.findAllById(Arrays.stream(ids, from, to).boxed().toList()).stream()
+                .sorted(Comparator.comparing(Item::getId))
                 .map(ItemMapper::toItemDto)
                 .toList();
+        return ItemPageDto.builder()
+                .items(items)
+                .nextCursor(to < ids.length ? String.valueOf(ids[to - 1]) : null)
+                .build();
+    }
+
+    @Override
+    public ItemPageDto searchAvailable(LocalDateTime start, LocalDateTime end, String text, String cursor, int size) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new ValidationException("Invalid availability window");
+        }
+        if (size <= 0) {
+            throw new ValidationException("Page size must be positive");
+        }
+        long afterId = parseCursor(cursor);
+
+        List<Item> items = itemRepository.findAvailableBetween(start, end, text == null ? "" : text.strip(),
+                afterId, PageRequest.ofSize(size + 1));
+        boolean hasNext = items.size() > size;
+        List<Item> page = hasNext ? items.subList(0, size) : items;
+
+        return ItemPageDto.builder()
+                .items(page.stream()
+                        .map(ItemMapper::toItemDto)
+                        .toList())
+                .nextCursor(hasNext ? String.valueOf(page.get(size - 1).getId()) : null)
+                .build();
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // no transaction unless the calendar has to be loaded, so a warm read never touches the pool
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Override
+    public ItemCalendarDto getCalendar(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("Invalid calendar range");
+        }
+        ItemCalendar calendar = itemCalendarCache.get(itemId, this::loadCalendar);
+        return ItemCalendarDto.builder()
+                .itemId(itemId)
+                .from(from)
+                .to(to)
+                .busy(calendar.busyBetween(from, to))
+                .free(calendar.freeBetween(from, to))
+                .build();
+    }
+
+    private ItemCalendar loadCalendar(Long itemId) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item not found with id: " + itemId);
+        }
+        return ItemCalendar.of(bookingRepository.findApprovedIntervals(itemId));
     }
 
     @Transactional
@@ -182,6 +327,8 @@ public class ItemServiceImpl implements ItemService {
                 .created(now)
                 .build();
 
-        return CommentMapper.toCommentDto(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentAddedEvent(saved.getId(), itemId));
+        return CommentMapper.toCommentDto(saved);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// a synchronous Cache.get runs the loader inside ConcurrentHashMap.compute, i.e. holding a bin monitor for the whole
+// database round trip; on a virtual thread that pins the carrier and stalls unrelated keys in the same bin. Here the
+// map only installs an empty future and the calling thread loads outside the lock, while concurrent callers for the
+// same key still wait for that one load
+public final class CallerLoads {
+
+    private CallerLoads() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                // a failed future is evicted by the cache, so the next caller retries
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // waiters see the loader's own exception, e.g. NotFoundException, so ErrorHandler maps it as before
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ItemCard {
+
+    private final ItemDto item;
+    private final Long ownerId;
+    private final BookingDto lastBooking;
+    private final BookingDto nextBooking;
+    // moment last/next booking would change on their own, null if never
+    private final LocalDateTime staleAt;
+
+    public ItemDto toDto(Long userId) {
+        ItemDto dto = ItemDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .ownerId(item.getOwnerId())
+                .comments(item.getComments())
+                .requestId(item.getRequestId())
+                .build();
+        if (ownerId.equals(userId)) {
+            dto.setLastBooking(lastBooking);
+            dto.setNextBooking(nextBooking);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.BookingChangedEvent;
+import ru.practicum.shareit.item.CommentAddedEvent;
+import ru.practicum.shareit.item.ItemChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Component
+public class ItemCardCache implements MeterBinder {
+
+    private final AsyncCache<Long, ItemCard> cards;
+
+    public ItemCardCache(@Value("${shareit.item-card-cache.max-size:10000}") long maxSize,
+                         @Value("${shareit.item-card-cache.ttl:5m}") Duration ttl) {
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CardExpiry(ttl.toNanos()))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public ItemCard get(Long itemId, Function<Long, ItemCard> loader) {
+        return CallerLoads.get(cards, itemId, loader);
+    }
+
+    // invalidation also drops an in-flight load of the same key, so a card built from pre-commit data is not kept
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        cards.synchronous().invalidate(event.getItemId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        cards.synchronous().invalidate(event.getItemId());
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        cards.synchronous().invalidate(event.getItemId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cards.synchronous(), "itemCards");
+    }
+
+    private static final class CardExpiry implements Expiry<Long, ItemCard> {
+
+        private final long ttlNanos;
+
+        private CardExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long itemId, ItemCard card, long currentTime) {
+            if (card.getStaleAt() == null) {
+                return ttlNanos;
+            }
+            long untilStale = Duration.between(LocalDateTime.now(), card.getStaleAt()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilStale));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long itemId, ItemCard card, long currentTime, long currentDuration) {
+            return expireAfterCreate(itemId, card, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long itemId, ItemCard card, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
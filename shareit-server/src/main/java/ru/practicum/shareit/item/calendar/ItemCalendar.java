@@ -0,0 +1,97 @@
+package ru.practicum.shareit.item.calendar;
+
+import ru.practicum.shareit.booking.BookingInterval;
+import ru.practicum.shareit.item.dto.CalendarIntervalDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// merged busy intervals keyed by start; instances are immutable, so cached calendars are read without locking
+public final class ItemCalendar {
+
+    private final NavigableMap<LocalDateTime, LocalDateTime> busy;
+
+    private ItemCalendar(NavigableMap<LocalDateTime, LocalDateTime> busy) {
+        this.busy = Collections.unmodifiableNavigableMap(busy);
+    }
+
+    public static ItemCalendar of(List<? extends BookingInterval> intervals) {
+        TreeMap<LocalDateTime, LocalDateTime> merged = new TreeMap<>();
+        for (BookingInterval interval : intervals) {
+            insert(merged, interval.getStart(), interval.getEnd());
+        }
+        return new ItemCalendar(merged);
+    }
+
+    public ItemCalendar with(LocalDateTime start, LocalDateTime end) {
+        TreeMap<LocalDateTime, LocalDateTime> merged = new TreeMap<>(busy);
+        insert(merged, start, end);
+        return new ItemCalendar(merged);
+    }
+
+    public int size() {
+        return busy.size();
+    }
+
+    public List<CalendarIntervalDto> busyBetween(LocalDateTime from, LocalDateTime to) {
+        List<CalendarIntervalDto> result = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, LocalDateTime> interval : overlapping(from, to).entrySet()) {
+            LocalDateTime start = max(interval.getKey(), from);
+            LocalDateTime end = min(interval.getValue(), to);
+            if (start.isBefore(end)) {
+                result.add(new CalendarIntervalDto(start, end));
+            }
+        }
+        return result;
+    }
+
+    public List<CalendarIntervalDto> freeBetween(LocalDateTime from, LocalDateTime to) {
+        List<CalendarIntervalDto> result = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (CalendarIntervalDto taken : busyBetween(from, to)) {
+            if (cursor.isBefore(taken.getStart())) {
+                result.add(new CalendarIntervalDto(cursor, taken.getStart()));
+            }
+            cursor = taken.getEnd();
+        }
+        if (cursor.isBefore(to)) {
+            result.add(new CalendarIntervalDto(cursor, to));
+        }
+        return result;
+    }
+
+    private NavigableMap<LocalDateTime, LocalDateTime> overlapping(LocalDateTime from, LocalDateTime to) {
+        // intervals never overlap each other, so only the one starting at or before from can reach into the window
+        LocalDateTime first = busy.floorKey(from);
+        return busy.subMap(first != null ? first : from, true, to, false);
+    }
+
+    // half-open intervals; touching ones are merged so the calendar has no zero-length gaps
+    private static void insert(TreeMap<LocalDateTime, LocalDateTime> merged, LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, LocalDateTime> before = merged.floorEntry(start);
+        if (before != null && !before.getValue().isBefore(start)) {
+            start = before.getKey();
+            end = max(end, before.getValue());
+        }
+        Map.Entry<LocalDateTime, LocalDateTime> next = merged.ceilingEntry(start);
+        while (next != null && !next.getKey().isAfter(end)) {
+            end = max(end, next.getValue());
+            merged.remove(next.getKey());
+            next = merged.higherEntry(next.getKey());
+        }
+        merged.put(start, end);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
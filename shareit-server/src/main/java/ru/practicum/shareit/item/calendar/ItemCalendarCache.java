@@ -0,0 +1,51 @@
+package ru.practicum.shareit.item.calendar;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.booking.BookingChangedEvent;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.cache.CallerLoads;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class ItemCalendarCache implements MeterBinder {
+
+    private final AsyncCache<Long, ItemCalendar> calendars;
+
+    public ItemCalendarCache(@Value("${shareit.item-calendar-cache.max-size:10000}") long maxSize,
+                             @Value("${shareit.item-calendar-cache.ttl:1h}") Duration ttl) {
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public ItemCalendar get(Long itemId, Function<Long, ItemCalendar> loader) {
+        return CallerLoads.get(calendars, itemId, loader);
+    }
+
+    // bookings only become busy by being approved, so a cached calendar is patched in place of a reload;
+    // an in-flight load is chained rather than replaced, so the patch is not lost
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.getStatus() != BookingStatus.APPROVED) {
+            return;
+        }
+        calendars.asMap().computeIfPresent(event.getItemId(),
+                (itemId, calendar) -> calendar.thenApply(loaded -> loaded.with(event.getStart(), event.getEnd())));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, calendars.synchronous(), "itemCalendars");
+    }
+}
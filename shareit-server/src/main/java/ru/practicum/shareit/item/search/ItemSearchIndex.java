@@ -0,0 +1,191 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.ItemChangedEvent;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemSearchMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int BUILD_PAGE_SIZE = 5_000;
+    private static final long[] NO_IDS = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final ConcurrentSkipListMap<String, TermPostings> postings = new ConcurrentSkipListMap<>();
+    private volatile boolean ready;
+    // changes committed before the build finishes; the build may have read either side of them, so they are
+    // replayed on top of it instead of being applied to lists the build is about to overwrite. Guarded by itself
+    private final List<ItemChangedEvent> pending = new ArrayList<>();
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.item-search.mode:LIKE}") ItemSearchMode mode) {
+        this.itemRepository = itemRepository;
+        this.enabled = mode == ItemSearchMode.INDEX;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        Map<String, IdBuffer> buffers = new HashMap<>();
+        long afterId = 0;
+        int indexed = 0;
+        while (true) {
+            var page = itemRepository.findAvailableTextAfter(afterId, PageRequest.ofSize(BUILD_PAGE_SIZE));
+            for (ItemTextView item : page) {
+                // ids arrive in ascending order, so every buffer stays sorted
+                for (String token : tokenize(item.getName(), item.getDescription())) {
+                    buffers.computeIfAbsent(token, t -> new IdBuffer()).add(item.getId());
+                }
+                afterId = item.getId();
+            }
+            indexed += page.size();
+            if (page.size() < BUILD_PAGE_SIZE) {
+                break;
+            }
+        }
+        buffers.forEach((token, buffer) -> postings.put(token, new TermPostings(buffer.toPostingList())));
+        synchronized (pending) {
+            // applying a change is idempotent, so one the build already saw is harmless to replay
+            pending.forEach(this::apply);
+            pending.clear();
+            ready = true;
+        }
+        log.info("Item search index built: {} items, {} terms in {} ms",
+                indexed, postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            synchronized (pending) {
+                if (!ready) {
+                    pending.add(event);
+                    return;
+                }
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(ItemChangedEvent event) {
+        Set<String> before = tokensOf(event.getBefore());
+        Set<String> after = tokensOf(event.getAfter());
+        long id = event.getItemId();
+        for (String token : before) {
+            if (!after.contains(token)) {
+                TermPostings term = postings.get(token);
+                if (term != null && term.remove(id)) {
+                    postings.remove(token, term);
+                }
+            }
+        }
+        for (String token : after) {
+            if (!before.contains(token)) {
+                TermPostings term = postings.computeIfAbsent(token, t -> new TermPostings(PostingList.EMPTY));
+                while (!term.add(id)) {
+                    // retired by a concurrent removal that has not dropped it from the map yet
+                    postings.remove(token, term);
+                    term = postings.computeIfAbsent(token, t -> new TermPostings(PostingList.EMPTY));
+                }
+            }
+        }
+    }
+
+    public long[] search(String text) {
+        Set<String> terms = tokenize(text, null);
+        long[] result = null;
+        for (String term : terms) {
+            long[] matches = prefixMatches(term);
+            result = result == null ? matches : LongArrays.intersect(result, matches);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result == null ? NO_IDS : result;
+    }
+
+    private long[] prefixMatches(String prefix) {
+        NavigableMap<String, TermPostings> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.isEmpty()) {
+            return NO_IDS;
+        }
+        List<long[]> lists = new ArrayList<>(range.size());
+        for (TermPostings term : range.values()) {
+            lists.add(term.toArray());
+        }
+        return LongArrays.unionAll(lists);
+    }
+
+    private static Set<String> tokensOf(ItemChangedEvent.Snapshot snapshot) {
+        if (snapshot == null || !snapshot.isAvailable()) {
+            return Set.of();
+        }
+        return tokenize(snapshot.getName(), snapshot.getDescription());
+    }
+
+    static Set<String> tokenize(String name, String description) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addTokens(tokens, name);
+        addTokens(tokens, description);
+        return tokens;
+    }
+
+    private static void addTokens(Set<String> tokens, String text) {
+        if (text == null) {
+            return;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+    }
+
+    private static final class IdBuffer {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        PostingList toPostingList() {
+            return PostingList.of(ids, size);
+        }
+    }
+}
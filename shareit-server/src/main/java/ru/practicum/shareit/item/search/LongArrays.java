@@ -0,0 +1,139 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+final class LongArrays {
+
+    private LongArrays() {
+    }
+
+    static long[] union(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                result[k++] = left[i++];
+            } else if (left[i] > right[j]) {
+                result[k++] = right[j++];
+            } else {
+                result[k++] = left[i++];
+                j++;
+            }
+        }
+        while (i < left.length) {
+            result[k++] = left[i++];
+        }
+        while (j < right.length) {
+            result[k++] = right[j++];
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    // k-way merge over a min-heap of list indices keyed by each list's next id: one pass over all ids at
+    // O(log k) comparisons each, instead of a pairwise union per list that copies the growing result every time
+    static long[] unionAll(List<long[]> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        long[][] sources = lists.toArray(new long[0][]);
+        int[] positions = new int[sources.length];
+        int[] heap = new int[sources.length];
+        int heapSize = 0;
+        int total = 0;
+        for (int source = 0; source < sources.length; source++) {
+            total += sources[source].length;
+            if (sources[source].length > 0) {
+                heap[heapSize++] = source;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, sources, positions);
+        }
+
+        long[] result = new long[total];
+        int k = 0;
+        while (heapSize > 0) {
+            int top = heap[0];
+            long id = sources[top][positions[top]++];
+            if (k == 0 || result[k - 1] != id) {
+                result[k++] = id;
+            }
+            if (positions[top] == sources[top].length) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, 0, sources, positions);
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    private static void siftDown(int[] heap, int size, int index, long[][] sources, int[] positions) {
+        if (index >= size) {
+            return;
+        }
+        int source = heap[index];
+        long id = sources[source][positions[source]];
+        int i = index;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && head(heap[child + 1], sources, positions) < head(heap[child], sources, positions)) {
+                child++;
+            }
+            if (id <= head(heap[child], sources, positions)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = source;
+    }
+
+    private static long head(int source, long[][] sources, int[] positions) {
+        return sources[source][positions[source]];
+    }
+
+    // left without the ids in right
+    static long[] subtract(long[] left, long[] right) {
+        long[] result = new long[left.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                result[k++] = left[i++];
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        while (i < left.length) {
+            result[k++] = left[i++];
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i++];
+                j++;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.item.search;
+
+final class PostingList {
+
+    static final PostingList EMPTY = new PostingList(new byte[0], 0);
+
+    private final byte[] data;
+    private final int size;
+
+    private PostingList(byte[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    static PostingList of(long[] sortedIds, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int bytes = 0;
+        long previous = 0;
+        for (int i = 0; i < length; i++) {
+            bytes += varintLength(sortedIds[i] - previous);
+            previous = sortedIds[i];
+        }
+        byte[] data = new byte[bytes];
+        int position = 0;
+        previous = 0;
+        for (int i = 0; i < length; i++) {
+            long delta = sortedIds[i] - previous;
+            while ((delta & ~0x7FL) != 0) {
+                data[position++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[position++] = (byte) delta;
+            previous = sortedIds[i];
+        }
+        return new PostingList(data, length);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        long[] ids = new long[size];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+// ids of one term: the compressed base list plus small sorted sets of ids added and removed since it was encoded.
+// An update copies only those sets; the base is re-encoded once they outgrow a fraction of it, so the cost per
+// update stays constant on average however common the term is. Readers take the current snapshot without locking
+final class TermPostings {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final int MIN_PENDING = 32;
+    private static final int BASE_FRACTION = 8;
+
+    private volatile Snapshot snapshot;
+    // set once the term became empty and was dropped from the index; guarded by this
+    private boolean retired;
+
+    TermPostings(PostingList base) {
+        snapshot = new Snapshot(base, NO_IDS, NO_IDS);
+    }
+
+    // false when the term has been retired meanwhile; the caller looks it up again
+    synchronized boolean add(long id) {
+        if (retired) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        // the base may already hold the id; the union in toArray drops the duplicate
+        update(current.base, insert(current.added, id), delete(current.removed, id));
+        return true;
+    }
+
+    // true when the term is left empty and has been retired; the caller drops it from the index
+    synchronized boolean remove(long id) {
+        if (retired) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        // removed may hold ids the base never had; subtracting them is a no-op
+        update(current.base, delete(current.added, id), insert(current.removed, id));
+        if (snapshot.base.isEmpty() && snapshot.added.length == 0) {
+            retired = true;
+        }
+        return retired;
+    }
+
+    long[] toArray() {
+        Snapshot current = snapshot;
+        return merge(current.base, current.added, current.removed);
+    }
+
+    private void update(PostingList base, long[] added, long[] removed) {
+        int pending = added.length + removed.length;
+        // removals that may cover the whole base are compacted at once, so an emptied term gets retired
+        if (pending > Math.max(MIN_PENDING, base.size() / BASE_FRACTION)
+                || (removed.length > 0 && removed.length >= base.size())) {
+            long[] ids = merge(base, added, removed);
+            snapshot = new Snapshot(PostingList.of(ids, ids.length), NO_IDS, NO_IDS);
+        } else {
+            snapshot = new Snapshot(base, added, removed);
+        }
+    }
+
+    private static long[] merge(PostingList base, long[] added, long[] removed) {
+        long[] ids = base.toArray();
+        if (removed.length > 0) {
+            ids = LongArrays.subtract(ids, removed);
+        }
+        if (added.length > 0) {
+            ids = LongArrays.union(ids, added);
+        }
+        return ids;
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] delete(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return NO_IDS;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    private static final class Snapshot {
+        private final PostingList base;
+        private final long[] added;
+        private final long[] removed;
+
+        private Snapshot(PostingList base, long[] added, long[] removed) {
+            this.base = base;
+            this.added = added;
+            this.removed = removed;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// shareit.service (timer) and shareit.service.rows around every public service method, shareit.repository.rows
+// around every repository call. Repository timings come from Spring Data's own spring.data.repository.invocations
+// timer; percentile histograms for both timers are switched on in application.properties
+@Aspect
+@Component
+public class HotPathMetricsAspect {
+
+    static final String SERVICE_TIMER = "shareit.service";
+    static final String SERVICE_ROWS = "shareit.service.rows";
+    static final String REPOSITORY_ROWS = "shareit.repository.rows";
+
+    private final MeterRegistry registry;
+    // meters per method and outcome, so the hot path skips the registry's id lookup
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<Method, DistributionSummary> serviceRows = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, DistributionSummary>> repositoryRows = new ConcurrentHashMap<>();
+
+    public HotPathMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * *(..)) && ("
+            + "within(ru.practicum.shareit.item.ItemServiceImpl)"
+            + " || within(ru.practicum.shareit.booking.BookingServiceImpl)"
+            + " || within(ru.practicum.shareit.user.UserServiceImpl)"
+            + " || within(ru.practicum.shareit.request.service.ItemRequestServiceImpl))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String service = joinPoint.getTarget().getClass().getSimpleName();
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            serviceTimer(service, method.getName(), e.getClass().getSimpleName())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        successTimers.computeIfAbsent(method, m -> serviceTimer(service, m.getName(), "success"))
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        long rows = RowCounts.of(result, method.getReturnType());
+        if (rows != RowCounts.NOT_ROWS) {
+            serviceRows.computeIfAbsent(method, m -> rows(SERVICE_ROWS, "service", service, m.getName()))
+                    .record(rows);
+        }
+        return result;
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object countRepositoryRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long rows = RowCounts.of(result, method.getReturnType());
+        if (rows != RowCounts.NOT_ROWS) {
+            // inherited methods (findById, findAll) are declared on CrudRepository, so the repository is taken
+            // from the proxy, not from the method
+            Class<?> repository = AopProxyUtils.proxiedUserInterfaces(joinPoint.getTarget())[0];
+            repositoryRows.computeIfAbsent(repository, r -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(method, m -> rows(REPOSITORY_ROWS, "repository",
+                            repository.getSimpleName(), m.getName()))
+                    .record(rows);
+        }
+        return result;
+    }
+
+    private Timer serviceTimer(String service, String method, String outcome) {
+        return Timer.builder(SERVICE_TIMER)
+                .description("Service method latency")
+                .tags("service", service, "method", method, "outcome", outcome)
+                .register(registry);
+    }
+
+    private DistributionSummary rows(String name, String ownerTag, String owner, String method) {
+        return DistributionSummary.builder(name)
+                .description("Rows returned per call")
+                .baseUnit("rows")
+                .tags(ownerTag, owner, "method", method)
+                .register(registry);
+    }
+}
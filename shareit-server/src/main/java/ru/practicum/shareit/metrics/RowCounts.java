@@ -0,0 +1,49 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+final class RowCounts {
+
+    static final long NOT_ROWS = -1;
+
+    private RowCounts() {
+    }
+
+    // rows carried by a return value; NOT_ROWS for results that are not rows at all (void, counts, flags)
+    static long of(Object result, Class<?> returnType) {
+        if (returnType == void.class || returnType == Void.class) {
+            return NOT_ROWS;
+        }
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            return NOT_ROWS;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof ItemPageDto page) {
+            return page.getItems().size();
+        }
+        if (result instanceof BookingPageDto page) {
+            return page.getBookings().size();
+        }
+        return 1;
+    }
+}
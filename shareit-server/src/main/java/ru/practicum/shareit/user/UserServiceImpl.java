@@ -1,6 +1,8 @@
 package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.ConflictException;
@@ -10,6 +12,7 @@ import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -21,13 +24,12 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public UserDto create(UserDto userDto) {
-        if (userRepository.findAll().stream()
-                .anyMatch(u -> u.getEmail().equals(userDto.getEmail()))) {
+        if (userRepository.existsByEmail(userDto.getEmail())) {
             throw new ConflictException("Email already in use: " + userDto.getEmail());
         }
 
         User user = UserMapper.toUser(userDto);
-        User saved = userRepository.save(user);
+        User saved = saveUnique(user);
         return UserMapper.toUserDto(saved);
     }
 
@@ -38,8 +40,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new NotFoundException("User with id " + id + " not found"));
 
         if (userDto.getEmail() != null && !userDto.getEmail().equals(existing.getEmail())) {
-            if (userRepository.findAll().stream()
-                    .anyMatch(u -> u.getEmail().equals(userDto.getEmail()))) {
+            if (userRepository.existsByEmail(userDto.getEmail())) {
                 throw new ConflictException("Email already in use: " + userDto.getEmail());
             }
             existing.setEmail(userDto.getEmail());
@@ -49,7 +50,7 @@ public class UserServiceImpl implements UserService {
             existing.setName(userDto.getName());
         }
 
-        return UserMapper.toUserDto(userRepository.save(existing));
+        return UserMapper.toUserDto(saveUnique(existing));
     }
 
     @Override
@@ -79,4 +80,23 @@ public class UserServiceImpl implements UserService {
     public boolean existsById(Long id) {
         return userRepository.existsById(id);
     }
+
+    // the exists check is only a fast path; the UNIQUE constraint settles concurrent signups
+    private User saveUnique(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ConflictException("Email already in use: " + user.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    // Postgres reports the constraint name, H2 the name of the index behind it (PUBLIC.USERS_EMAIL_KEY_INDEX_4)
+    static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+    }
 }
\ No newline at end of file
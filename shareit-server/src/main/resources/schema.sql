@@ -1,18 +1,29 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE SEQUENCE IF NOT EXISTS users_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS users (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('users_id_seq') PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
-    email VARCHAR(512) UNIQUE NOT NULL
+    email VARCHAR(512) NOT NULL,
+    -- the name Postgres gives an unnamed UNIQUE on users.email, so existing databases match
+    CONSTRAINT users_email_key UNIQUE (email)
 );
 
+CREATE SEQUENCE IF NOT EXISTS requests_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS requests (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('requests_id_seq') PRIMARY KEY,
     description VARCHAR(1024) NOT NULL,
     requester_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
     created TIMESTAMP WITHOUT TIME ZONE DEFAULT NOW() NOT NULL
 );
 
+CREATE SEQUENCE IF NOT EXISTS items_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS items (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('items_id_seq') PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     description VARCHAR(1024),
     is_available BOOLEAN NOT NULL,
@@ -20,19 +31,48 @@ CREATE TABLE IF NOT EXISTS items (
     request_id BIGINT REFERENCES requests(id) ON DELETE SET NULL
 );
 
+CREATE SEQUENCE IF NOT EXISTS bookings_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS bookings (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('bookings_id_seq') PRIMARY KEY,
     start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
     end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
     item_id BIGINT REFERENCES items(id) ON DELETE CASCADE,
     booker_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
-    status VARCHAR(50) NOT NULL
+    status VARCHAR(50) NOT NULL,
+    CONSTRAINT bookings_no_approved_overlap EXCLUDE USING gist (
+        item_id WITH =,
+        tsrange(start_date, end_date) WITH &&
+    ) WHERE (status = 'APPROVED')
 );
 
+CREATE SEQUENCE IF NOT EXISTS comments_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS comments (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('comments_id_seq') PRIMARY KEY,
     text VARCHAR(1024) NOT NULL,
     item_id BIGINT REFERENCES items(id) ON DELETE CASCADE,
     author_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
     created TIMESTAMP WITHOUT TIME ZONE DEFAULT NOW()
-);
\ No newline at end of file
+);
+
+-- databases created before pooled ids got BIGSERIAL sequences with an increment of 1
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE requests_id_seq INCREMENT BY 50;
+ALTER SEQUENCE items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+
+CREATE INDEX IF NOT EXISTS items_owner_id_idx ON items (owner_id);
+
+-- replaces bookings_booker_start_idx (booker_id, start_date DESC), which IF NOT EXISTS would keep as it was
+DROP INDEX IF EXISTS bookings_booker_start_idx;
+CREATE INDEX IF NOT EXISTS bookings_booker_start_id_idx ON bookings (booker_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS items_name_trgm_idx ON items USING GIN (LOWER(name) gin_trgm_ops) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS items_description_trgm_idx ON items USING GIN (LOWER(description) gin_trgm_ops) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS bookings_item_approved_end_idx ON bookings (item_id, end_date) WHERE status = 'APPROVED';
+
+CREATE INDEX IF NOT EXISTS bookings_item_start_end_idx ON bookings (item_id, start_date, end_date);
@@ -0,0 +1,149 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingSpecifications;
+import ru.practicum.shareit.booking.BookingView;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// each read path loads its rows and maps them the way the services do; lazy loads would show up as extra statements
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class FetchPlanTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private ItemRequest request;
+    private Item drill;
+    private Item saw;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(User.builder().name("Owner").email("fetch-owner@mail.com").build());
+        booker = em.persist(User.builder().name("Booker").email("fetch-booker@mail.com").build());
+        request = em.persist(ItemRequest.builder()
+                .description("Need a drill")
+                .requesterId(booker.getId())
+                .created(LocalDateTime.now())
+                .build());
+        drill = em.persist(Item.builder().name("Drill").description("Power drill").available(true)
+                .owner(owner).request(request).build());
+        saw = em.persist(Item.builder().name("Saw").description("Hand saw").available(true)
+                .owner(owner).request(request).build());
+        LocalDateTime now = LocalDateTime.now();
+        booking = em.persist(Booking.builder().item(drill).booker(booker)
+                .start(now.minusDays(2)).end(now.minusDays(1)).status(BookingStatus.APPROVED).build());
+        em.persist(Booking.builder().item(saw).booker(booker)
+                .start(now.plusDays(1)).end(now.plusDays(2)).status(BookingStatus.WAITING).build());
+        em.persist(Comment.builder().item(drill).author(booker).text("Works").created(now).build());
+        em.persist(Comment.builder().item(saw).author(booker).text("Sharp").created(now).build());
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void bookingById_shouldLoadItemInTheSameStatement() {
+        Booking found = bookingRepository.findWithItemById(booking.getId()).orElseThrow();
+        BookingMapper.toResponseDto(found);
+        found.getItem().getOwner().getId();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void bookingPage_shouldSelectViewsWithoutLoadingEntities() {
+        List<BookingView> page = bookingRepository.findViews(BookingSpecifications.byItemOwner(owner.getId()),
+                Sort.by(Sort.Direction.DESC, "start", "id"), 10);
+        page.forEach(BookingMapper::toResponseDto);
+
+        assertEquals(2, page.size());
+        assertEquals("Saw", page.get(0).getItemName());
+        assertEquals(booker.getId(), page.get(1).getBookerId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void itemBookings_shouldNotLoadItemsOrBookers() {
+        bookingRepository.findAllByItem(drill).forEach(BookingMapper::toShortDto);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void itemById_shouldNotLoadOwnerOrRequest() {
+        Item found = itemRepository.findById(drill.getId()).orElseThrow();
+        ItemMapper.toItemDto(found);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void itemsOfOwner_shouldNotLoadOwnerOrRequest() {
+        itemRepository.findAllByOwner(owner).forEach(ItemMapper::toItemDto);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void itemsOfRequest_shouldNotLoadOwnerOrRequest() {
+        List<Item> items = itemRepository.findByRequest_Id(request.getId());
+        items.forEach(ItemMapper::toItemShortDto);
+
+        assertEquals(2, items.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void comments_shouldLoadAuthorsInTheSameStatement() {
+        commentRepository.findAllByItem(drill).forEach(CommentMapper::toCommentDto);
+        commentRepository.findAllByItem_IdIn(List.of(drill.getId(), saw.getId())).forEach(c -> {
+            CommentMapper.toCommentDto(c);
+            c.getItem().getId();
+        });
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
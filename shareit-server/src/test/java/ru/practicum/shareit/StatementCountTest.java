@@ -0,0 +1,295 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.test.StatementCountingConfiguration;
+import ru.practicum.shareit.test.StatementCounts;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ru.practicum.shareit.test.StatementCounter.count;
+
+// baseline statement counts per service call; a change here means a read path started loading more (or less)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(StatementCountingConfiguration.class)
+class StatementCountTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    private UserDto owner;
+    private UserDto booker;
+    private ItemDto item;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = newUser("owner");
+        booker = newUser("booker");
+        item = newItem(owner, null);
+        now = LocalDateTime.now();
+    }
+
+    // users
+
+    @Test
+    void userCreate() {
+        UserDto dto = UserDto.builder().name("New").email("new" + SEQ.incrementAndGet() + "@mail.com").build();
+        assertStatements(StatementCounts.of(1, 1, 0, 0), count(() -> userService.create(dto)));
+    }
+
+    @Test
+    void userUpdate() {
+        UserDto dto = UserDto.builder().name("Renamed").email("renamed" + SEQ.incrementAndGet() + "@mail.com").build();
+        assertStatements(StatementCounts.of(2, 0, 1, 0), count(() -> userService.update(owner.getId(), dto)));
+    }
+
+    @Test
+    void userGetById() {
+        assertStatements(StatementCounts.of(1, 0, 0, 0), count(() -> userService.getById(owner.getId())));
+    }
+
+    @Test
+    void userGetAll() {
+        assertStatements(StatementCounts.of(1, 0, 0, 0), count(() -> userService.getAll()));
+    }
+
+    @Test
+    void userDelete() {
+        UserDto lonely = newUser("lonely");
+        assertStatements(StatementCounts.of(2, 0, 0, 1), count(() -> userService.delete(lonely.getId())));
+    }
+
+    @Test
+    void userExistsById() {
+        assertStatements(StatementCounts.of(1, 0, 0, 0), count(() -> userService.existsById(owner.getId())));
+    }
+
+    // items
+
+    @Test
+    void itemCreate() {
+        ItemDto dto = ItemDto.builder().name("Saw").description("Hand saw").available(true).build();
+        assertStatements(StatementCounts.of(1, 1, 0, 0), count(() -> itemService.create(owner.getId(), dto)));
+    }
+
+    @Test
+    void itemCreateForRequest() {
+        ItemRequestDto request = itemRequestService.createRequest(booker.getId(),
+                ItemRequestDto.builder().description("Need a saw").build());
+        ItemDto dto = ItemDto.builder().name("Saw").description("Hand saw").available(true)
+                .requestId(request.getId()).build();
+        assertStatements(StatementCounts.of(2, 1, 0, 0), count(() -> itemService.create(owner.getId(), dto)));
+    }
+
+    @Test
+    void itemUpdate() {
+        ItemDto dto = ItemDto.builder().name("Hammer drill").build();
+        assertStatements(StatementCounts.of(1, 0, 1, 0),
+                count(() -> itemService.update(item.getId(), owner.getId(), dto)));
+    }
+
+    @Test
+    void itemGetByIdCold() {
+        approvedBooking(item, now.minusDays(3), now.minusDays(2));
+        comment(item);
+        assertStatements(StatementCounts.of(3, 0, 0, 0), count(() -> itemService.getById(item.getId(), owner.getId())));
+    }
+
+    @Test
+    void itemGetByIdWarm() {
+        itemService.getById(item.getId(), owner.getId());
+        assertStatements(StatementCounts.of(0, 0, 0, 0), count(() -> itemService.getById(item.getId(), booker.getId())));
+    }
+
+    @Test
+    void itemGetByOwner() {
+        ItemDto second = newItem(owner, null);
+        approvedBooking(item, now.minusDays(3), now.minusDays(2));
+        approvedBooking(second, now.plusDays(2), now.plusDays(3));
+        comment(item);
+        assertStatements(StatementCounts.of(5, 0, 0, 0), count(() -> itemService.getByOwner(owner.getId())));
+    }
+
+    @Test
+    void itemSearch() {
+        newItem(owner, null);
+        assertStatements(StatementCounts.of(1, 0, 0, 0), count(() -> itemService.search("drill", null, 100)));
+    }
+
+    @Test
+    void itemSearchAvailable() {
+        newItem(owner, null);
+        approvedBooking(item, now.plusDays(1), now.plusDays(2));
+        assertStatements(StatementCounts.of(1, 0, 0, 0),
+                count(() -> itemService.searchAvailable(now, now.plusDays(3), "drill", null, 10)));
+    }
+
+    @Test
+    void itemGetCalendarCold() {
+        approvedBooking(item, now.plusDays(1), now.plusDays(2));
+        assertStatements(StatementCounts.of(2, 0, 0, 0),
+                count(() -> itemService.getCalendar(item.getId(), now, now.plusMonths(12))));
+    }
+
+    @Test
+    void itemGetCalendarWarm() {
+        itemService.getCalendar(item.getId(), now, now.plusMonths(12));
+        assertStatements(StatementCounts.of(0, 0, 0, 0),
+                count(() -> itemService.getCalendar(item.getId(), now, now.plusMonths(12))));
+    }
+
+    @Test
+    void itemAddComment() {
+        approvedBooking(item, now.minusDays(3), now.minusDays(2));
+        CommentDto dto = CommentDto.builder().text("Great").build();
+        assertStatements(StatementCounts.of(3, 1, 0, 0),
+                count(() -> itemService.addComment(booker.getId(), item.getId(), dto)));
+    }
+
+    // bookings
+
+    @Test
+    void bookingCreate() {
+        BookingDto dto = BookingDto.builder().itemId(item.getId()).start(now.plusDays(1)).end(now.plusDays(2)).build();
+        assertStatements(StatementCounts.of(3, 1, 0, 0), count(() -> bookingService.create(booker.getId(), dto)));
+    }
+
+    @Test
+    void bookingApprove() {
+        BookingResponseDto booking = booking(item, now.plusDays(1), now.plusDays(2));
+        assertStatements(StatementCounts.of(2, 0, 1, 0),
+                count(() -> bookingService.approve(owner.getId(), booking.getId(), true)));
+    }
+
+    @Test
+    void bookingReject() {
+        BookingResponseDto booking = booking(item, now.plusDays(1), now.plusDays(2));
+        assertStatements(StatementCounts.of(1, 0, 1, 0),
+                count(() -> bookingService.approve(owner.getId(), booking.getId(), false)));
+    }
+
+    @Test
+    void bookingGetById() {
+        BookingResponseDto booking = booking(item, now.plusDays(1), now.plusDays(2));
+        assertStatements(StatementCounts.of(1, 0, 0, 0),
+                count(() -> bookingService.getById(owner.getId(), booking.getId())));
+    }
+
+    @Test
+    void bookingGetAllByUser() {
+        ItemDto second = newItem(owner, null);
+        booking(item, now.plusDays(1), now.plusDays(2));
+        booking(second, now.plusDays(3), now.plusDays(4));
+        assertStatements(StatementCounts.of(2, 0, 0, 0),
+                count(() -> bookingService.getAllByUser(booker.getId(), "ALL", null, 10)));
+    }
+
+    @Test
+    void bookingGetAllByOwner() {
+        ItemDto second = newItem(owner, null);
+        booking(item, now.plusDays(1), now.plusDays(2));
+        booking(second, now.plusDays(3), now.plusDays(4));
+        assertStatements(StatementCounts.of(2, 0, 0, 0),
+                count(() -> bookingService.getAllByOwner(owner.getId(), "ALL", null, 10)));
+    }
+
+    // item requests
+
+    @Test
+    void requestCreate() {
+        ItemRequestDto dto = ItemRequestDto.builder().description("Need a ladder").build();
+        assertStatements(StatementCounts.of(1, 1, 0, 0),
+                count(() -> itemRequestService.createRequest(booker.getId(), dto)));
+    }
+
+    @Test
+    void requestGetUserRequests() {
+        request(booker);
+        request(booker);
+        assertStatements(StatementCounts.of(2, 0, 0, 0),
+                count(() -> itemRequestService.getUserRequests(booker.getId())));
+    }
+
+    @Test
+    void requestGetOtherUsersRequests() {
+        request(booker);
+        assertStatements(StatementCounts.of(2, 0, 0, 0),
+                count(() -> itemRequestService.getOtherUsersRequests(owner.getId())));
+    }
+
+    @Test
+    void requestGetById() {
+        ItemRequestDto request = request(booker);
+        newItem(owner, request.getId());
+        newItem(owner, request.getId());
+        assertStatements(StatementCounts.of(3, 0, 0, 0),
+                count(() -> itemRequestService.getRequestById(booker.getId(), request.getId())));
+    }
+
+    private static void assertStatements(StatementCounts expected, StatementCounts actual) {
+        assertEquals(expected, actual);
+    }
+
+    private UserDto newUser(String name) {
+        return userService.create(UserDto.builder()
+                .name(name)
+                .email(name + SEQ.incrementAndGet() + "@mail.com")
+                .build());
+    }
+
+    private ItemDto newItem(UserDto itemOwner, Long requestId) {
+        return itemService.create(itemOwner.getId(), ItemDto.builder()
+                .name("Drill " + SEQ.incrementAndGet())
+                .description("Power drill")
+                .available(true)
+                .requestId(requestId)
+                .build());
+    }
+
+    private BookingResponseDto booking(ItemDto bookedItem, LocalDateTime start, LocalDateTime end) {
+        return bookingService.create(booker.getId(), BookingDto.builder()
+                .itemId(bookedItem.getId())
+                .start(start)
+                .end(end)
+                .build());
+    }
+
+    private void approvedBooking(ItemDto bookedItem, LocalDateTime start, LocalDateTime end) {
+        bookingService.approve(owner.getId(), booking(bookedItem, start, end).getId(), true);
+    }
+
+    private void comment(ItemDto commentedItem) {
+        itemService.addComment(booker.getId(), commentedItem.getId(), CommentDto.builder().text("Nice").build());
+    }
+
+    private ItemRequestDto request(UserDto requester) {
+        return itemRequestService.createRequest(requester.getId(),
+                ItemRequestDto.builder().description("Need something").build());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.error.NotFoundException;
@@ -20,9 +21,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -124,17 +128,37 @@ class BookingControllerTest {
 
     @Test
     void getAllByUser_shouldReturnList() throws Exception {
-        when(bookingService.getAllByUser(anyLong(), any())).thenReturn(List.of(responseDto));
+        when(bookingService.getAllByUser(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new BookingPageDto(List.of(responseDto), null));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 7L))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L));
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verify(bookingService).getAllByUser(7L, "ALL", null, 100);
+    }
+
+    @Test
+    void getAllByUser_shouldPassCursorAndExposeNextCursor() throws Exception {
+        when(bookingService.getAllByUser(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new BookingPageDto(List.of(responseDto), "next"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 7L)
+                        .param("cursor", "prev")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"));
+
+        verify(bookingService).getAllByUser(7L, "ALL", "prev", 1);
     }
 
     @Test
     void getAllByUser_shouldReturn400ForInvalidState() throws Exception {
-        when(bookingService.getAllByUser(anyLong(), any())).thenThrow(new ValidationException("Invalid state"));
+        when(bookingService.getAllByUser(anyLong(), any(), any(), anyInt()))
+                .thenThrow(new ValidationException("Invalid state"));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 7L)
@@ -144,7 +168,8 @@ class BookingControllerTest {
 
     @Test
     void getAllByOwner_shouldReturnList() throws Exception {
-        when(bookingService.getAllByOwner(anyLong(), any())).thenReturn(List.of(responseDto));
+        when(bookingService.getAllByOwner(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new BookingPageDto(List.of(responseDto), null));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 3L))
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.error.ValidationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookingCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTrip() {
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_000_000);
+        BookingCursor cursor = BookingCursor.decode(new BookingCursor(start, 42L).encode());
+
+        assertEquals(start, cursor.getStart());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void decode_shouldRejectMalformedToken() {
+        assertThrows(ValidationException.class, () -> BookingCursor.decode("not a cursor"));
+        assertThrows(ValidationException.class, () -> BookingCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.error.ConflictException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingOverlapStressTest {
+
+    private static final int BOOKINGS = 40;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void concurrentApprovals_shouldNeverLeaveOverlappingApprovedBookings() throws Exception {
+        UserDto owner = userService.create(UserDto.builder().name("Owner").email("stress-owner@mail.com").build());
+        UserDto booker = userService.create(UserDto.builder().name("Booker").email("stress-booker@mail.com").build());
+        ItemDto item = itemService.create(owner.getId(),
+                ItemDto.builder().name("Drill").description("Power drill").available(true).build());
+
+        // staggered three-hour windows every hour, so each booking overlaps its neighbours
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            BookingDto dto = BookingDto.builder()
+                    .itemId(item.getId())
+                    .start(base.plusHours(i))
+                    .end(base.plusHours(i + 3))
+                    .build();
+            bookingIds.add(bookingService.create(booker.getId(), dto).getId());
+        }
+        Collections.shuffle(bookingIds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Long bookingId : bookingIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.approve(owner.getId(), bookingId, true);
+                    return true;
+                } catch (ConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int approved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                approved++;
+            }
+        }
+        executor.shutdown();
+
+        List<BookingResponseDto> approvedBookings = bookingIds.stream()
+                .map(id -> bookingService.getById(owner.getId(), id))
+                .filter(b -> b.getStatus() == BookingStatus.APPROVED)
+                .toList();
+        assertEquals(approved, approvedBookings.size());
+        assertTrue(approved > 0);
+        for (BookingResponseDto a : approvedBookings) {
+            for (BookingResponseDto b : approvedBookings) {
+                if (!a.getId().equals(b.getId())) {
+                    assertFalse(a.getStart().isBefore(b.getEnd()) && b.getStart().isBefore(a.getEnd()),
+                            "bookings " + a.getId() + " and " + b.getId() + " overlap");
+                }
+            }
+        }
+        assertFalse(bookingRepository.existsApprovedOverlap(item.getId(), base.minusHours(1), base),
+                "window before the first booking stays free");
+    }
+}
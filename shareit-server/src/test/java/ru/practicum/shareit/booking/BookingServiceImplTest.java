@@ -3,13 +3,21 @@ package ru.practicum.shareit.booking;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.error.ConflictException;
 import ru.practicum.shareit.error.ForbiddenException;
 import ru.practicum.shareit.error.NotFoundException;
 import ru.practicum.shareit.error.ValidationException;
@@ -24,9 +32,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
@@ -37,6 +46,8 @@ class BookingServiceImplTest {
     private UserRepository userRepository;
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookingServiceImpl service;
@@ -117,106 +128,247 @@ class BookingServiceImplTest {
         assertThrows(ValidationException.class, () -> service.create(booker.getId(), bookingDto));
     }
 
+    @Test
+    void create_shouldThrowWhenApprovedBookingOverlaps() {
+        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+        when(bookingRepository.existsApprovedOverlap(item.getId(), bookingDto.getStart(), bookingDto.getEnd()))
+                .thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> service.create(booker.getId(), bookingDto));
+        verify(bookingRepository, never()).save(any());
+    }
+
     @Test
     void approve_shouldApproveBooking() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(any())).thenReturn(booking);
+        when(bookingRepository.lockItemOfBooking(100L, owner.getId())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.approveIfOwnerAndFree(100L, owner.getId())).thenReturn(1);
+        booking.setStatus(BookingStatus.APPROVED);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
 
         BookingResponseDto result = service.approve(owner.getId(), 100L, true);
 
-        assertEquals(BookingStatus.APPROVED, booking.getStatus());
-        verify(bookingRepository).save(any());
+        assertEquals(BookingStatus.APPROVED, result.getStatus());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void approve_shouldPublishBookingChangedForItem() {
+        when(bookingRepository.updateStatusIfOwner(100L, owner.getId(), BookingStatus.WAITING,
+                BookingStatus.REJECTED)).thenReturn(1);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
+        service.approve(owner.getId(), 100L, false);
+
+        ArgumentCaptor<BookingChangedEvent> captor = ArgumentCaptor.forClass(BookingChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(100L, captor.getValue().getBookingId());
+        assertEquals(item.getId(), captor.getValue().getItemId());
     }
 
     @Test
     void approve_shouldRejectBooking() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(any())).thenReturn(booking);
+        when(bookingRepository.updateStatusIfOwner(100L, owner.getId(), BookingStatus.WAITING,
+                BookingStatus.REJECTED)).thenReturn(1);
+        booking.setStatus(BookingStatus.REJECTED);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
 
         BookingResponseDto result = service.approve(owner.getId(), 100L, false);
 
-        assertEquals(BookingStatus.REJECTED, booking.getStatus());
+        assertEquals(BookingStatus.REJECTED, result.getStatus());
     }
 
     @Test
     void approve_shouldThrowWhenNotOwner() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
         assertThrows(ForbiddenException.class, () -> service.approve(999L, 100L, true));
+        verify(bookingRepository, never()).approveIfOwnerAndFree(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void approve_shouldThrowWhenBookingNotFound() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.empty());
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.empty());
+
         assertThrows(NotFoundException.class, () -> service.approve(owner.getId(), 100L, true));
     }
 
     @Test
     void approve_shouldThrowWhenAlreadyProcessed() {
         booking.setStatus(BookingStatus.APPROVED);
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.lockItemOfBooking(100L, owner.getId())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.approveIfOwnerAndFree(100L, owner.getId())).thenReturn(0);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
         assertThrows(ValidationException.class, () -> service.approve(owner.getId(), 100L, true));
     }
 
+    @Test
+    void approve_shouldLockItemBeforeApproving() {
+        when(bookingRepository.lockItemOfBooking(100L, owner.getId())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.approveIfOwnerAndFree(100L, owner.getId())).thenReturn(1);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
+        service.approve(owner.getId(), 100L, true);
+
+        var order = inOrder(bookingRepository);
+        order.verify(bookingRepository).lockItemOfBooking(100L, owner.getId());
+        order.verify(bookingRepository).approveIfOwnerAndFree(100L, owner.getId());
+    }
+
+    @Test
+    void approve_shouldThrowConflictWhenApprovedBookingOverlaps() {
+        when(bookingRepository.lockItemOfBooking(100L, owner.getId())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.approveIfOwnerAndFree(100L, owner.getId())).thenReturn(0);
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
+        assertThrows(ConflictException.class, () -> service.approve(owner.getId(), 100L, true));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void approve_shouldThrowConflictWhenExclusionConstraintFires() {
+        when(bookingRepository.lockItemOfBooking(100L, owner.getId())).thenReturn(Optional.of(item.getId()));
+        when(bookingRepository.approveIfOwnerAndFree(100L, owner.getId()))
+                .thenThrow(new DataIntegrityViolationException("bookings_no_approved_overlap"));
+
+        assertThrows(ConflictException.class, () -> service.approve(owner.getId(), 100L, true));
+    }
+
+    @Test
+    void approve_shouldTakeRowFromUpdateWhenReturningIsEnabled() {
+        ReflectionTestUtils.setField(service, "updateReturning", true);
+        BookingView approved = new BookingView(100L, booking.getStart(), booking.getEnd(), BookingStatus.APPROVED,
+                booker.getId(), item.getId(), item.getName());
+        when(bookingRepository.updateStatusReturning(100L, owner.getId(), BookingStatus.APPROVED))
+                .thenReturn(Optional.of(approved));
+
+        BookingResponseDto result = service.approve(owner.getId(), 100L, true);
+
+        assertEquals(BookingStatus.APPROVED, result.getStatus());
+        assertEquals(item.getName(), result.getItem().getName());
+        verify(eventPublisher).publishEvent(any(BookingChangedEvent.class));
+        verify(bookingRepository, never()).lockItemOfBooking(any(), any());
+        verify(bookingRepository, never()).findWithItemById(any());
+    }
+
+    @Test
+    void approve_shouldReadBookingBackOnlyWhenReturningUpdateIsRefused() {
+        ReflectionTestUtils.setField(service, "updateReturning", true);
+        when(bookingRepository.updateStatusReturning(100L, 999L, BookingStatus.REJECTED))
+                .thenReturn(Optional.empty());
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
+
+        assertThrows(ForbiddenException.class, () -> service.approve(999L, 100L, false));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void approve_shouldThrowConflictWhenReturningUpdateHitsExclusionConstraint() {
+        ReflectionTestUtils.setField(service, "updateReturning", true);
+        when(bookingRepository.updateStatusReturning(100L, owner.getId(), BookingStatus.APPROVED))
+                .thenThrow(new DataIntegrityViolationException("bookings_no_approved_overlap"));
+
+        assertThrows(ConflictException.class, () -> service.approve(owner.getId(), 100L, true));
+    }
+
     @Test
     void getById_shouldReturnBooking_whenOwnerOrBooker() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
         BookingResponseDto result = service.getById(booker.getId(), 100L);
         assertEquals(booking.getId(), result.getId());
     }
 
     @Test
     void getById_shouldThrowWhenNoAccess() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.of(booking));
         assertThrows(NotFoundException.class, () -> service.getById(999L, 100L));
     }
 
     @Test
     void getById_shouldThrowWhenNotFound() {
-        when(bookingRepository.findById(100L)).thenReturn(Optional.empty());
+        when(bookingRepository.findWithItemById(100L)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> service.getById(booker.getId(), 100L));
     }
 
     @Test
     void getAllByUser_shouldReturnFilteredBookings() {
-        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerOrderByStartDesc(booker)).thenReturn(List.of(booking));
+        when(userRepository.existsById(booker.getId())).thenReturn(true);
+        when(bookingRepository.findViews(any(Specification.class), any(), anyInt())).thenReturn(List.of(view(booking)));
+
+        BookingPageDto result = service.getAllByUser(booker.getId(), "ALL", null, 10);
+        assertEquals(1, result.getBookings().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getAllByUser_shouldThrowWhenUserNotFound() {
+        when(userRepository.existsById(booker.getId())).thenReturn(false);
+        assertThrows(NotFoundException.class, () -> service.getAllByUser(booker.getId(), "ALL", null, 10));
+        verifyNoInteractions(bookingRepository);
+    }
 
-        List<BookingResponseDto> result = service.getAllByUser(booker.getId(), "ALL");
-        assertEquals(1, result.size());
+    @Test
+    void getAllByUser_shouldReturnCursorOfLastRowWhenMoreRowsExist() {
+        Booking older = Booking.builder()
+                .id(99L)
+                .item(item)
+                .booker(booker)
+                .start(booking.getStart().minusDays(1))
+                .end(booking.getEnd().minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build();
+        when(userRepository.existsById(booker.getId())).thenReturn(true);
+        when(bookingRepository.findViews(any(Specification.class), any(), eq(2))).thenReturn(List.of(view(booking), view(older)));
+
+        BookingPageDto result = service.getAllByUser(booker.getId(), "ALL", null, 1);
+
+        assertEquals(1, result.getBookings().size());
+        assertEquals(booking.getId(), result.getBookings().get(0).getId());
+        BookingCursor cursor = BookingCursor.decode(result.getNextCursor());
+        assertEquals(booking.getStart(), cursor.getStart());
+        assertEquals(booking.getId(), cursor.getId());
+    }
+
+    @Test
+    void getAllByUser_shouldRejectInvalidCursorAndSize() {
+        when(userRepository.existsById(booker.getId())).thenReturn(true);
+
+        assertThrows(ValidationException.class, () -> service.getAllByUser(booker.getId(), "ALL", "%%%", 10));
+        assertThrows(ValidationException.class, () -> service.getAllByUser(booker.getId(), "ALL", null, 0));
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
     void getAllByOwner_shouldReturnBookings_whenUserExists() {
         when(userRepository.existsById(owner.getId())).thenReturn(true);
-        when(bookingRepository.findAllByItem_Owner_IdOrderByStartDesc(owner.getId())).thenReturn(List.of(booking));
+        when(bookingRepository.findViews(any(Specification.class), any(), anyInt())).thenReturn(List.of(view(booking)));
 
-        List<BookingResponseDto> result = service.getAllByOwner(owner.getId(), "PAST");
-        assertTrue(result.isEmpty() || result.size() >= 0);
+        BookingPageDto result = service.getAllByOwner(owner.getId(), "PAST", null, 10);
+        assertEquals(1, result.getBookings().size());
     }
 
     @Test
     void getAllByOwner_shouldThrowWhenUserNotFound() {
         when(userRepository.existsById(owner.getId())).thenReturn(false);
-        assertThrows(NotFoundException.class, () -> service.getAllByOwner(owner.getId(), "ALL"));
+        assertThrows(NotFoundException.class, () -> service.getAllByOwner(owner.getId(), "ALL", null, 10));
     }
 
     @Test
     void filter_shouldHandleAllStates() {
-        LocalDateTime now = LocalDateTime.now();
-        Item testItem = new Item(1L, "Hammer", "Tool", true, owner, null);
-
-        Booking b = Booking.builder()
-                .start(now.minusHours(2))
-                .end(now.minusHours(1))
-                .status(BookingStatus.WAITING)
-                .booker(booker)
-                .item(testItem)
-                .build();
-
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(booker));
-        when(bookingRepository.findAllByBookerOrderByStartDesc(any())).thenReturn(List.of(b));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(bookingRepository.findViews(any(Specification.class), any(), anyInt())).thenReturn(List.of(view(booking)));
+
+        for (BookingState state : BookingState.values()) {
+            assertDoesNotThrow(() -> service.getAllByUser(booker.getId(), state.name().toLowerCase(), null, 10));
+        }
+        assertThrows(ValidationException.class, () -> service.getAllByUser(booker.getId(), "INVALID", null, 10));
+        verify(bookingRepository, times(BookingState.values().length)).findViews(any(Specification.class), any(), anyInt());
+    }
 
-        assertDoesNotThrow(() -> service.getAllByUser(booker.getId(), "ALL"));
-        assertThrows(ValidationException.class, () -> service.getAllByUser(booker.getId(), "INVALID"));
+    private static BookingView view(Booking booking) {
+        return new BookingView(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                booking.getBooker().getId(), booking.getItem().getId(), booking.getItem().getName());
     }
-}
\ No newline at end of file
+}
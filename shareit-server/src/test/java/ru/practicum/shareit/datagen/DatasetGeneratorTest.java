@@ -0,0 +1,101 @@
+package ru.practicum.shareit.datagen;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// own in-memory database: the generator writes explicit ids and would collide with other contexts' pooled ids
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:datagen;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "shareit.datagen.users=500",
+        "shareit.datagen.owners=50",
+        "shareit.datagen.requests=100",
+        "shareit.datagen.items=2000",
+        "shareit.datagen.bookings=20000",
+        "shareit.datagen.history-years=3",
+        "shareit.datagen.anchor=" + DatasetGeneratorTest.ANCHOR,
+        "shareit.datagen.exit=false"
+})
+@ActiveProfiles({"test", "datagen"})
+class DatasetGeneratorTest {
+
+    static final String ANCHOR = "2030-01-01T00:00:00";
+
+    private static final String FINGERPRINT =
+            "SELECT SUM(MOD(id * 31 + item_id * 17 + booker_id + DATEDIFF('HOUR', TIMESTAMP '2020-01-01 00:00:00', "
+                    + "start_date) + DATEDIFF('HOUR', start_date, end_date) * 7 + LENGTH(status), 1000003)) "
+                    + "FROM bookings";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void startup_shouldFillEveryTable() {
+        assertEquals(500, count("users"));
+        assertEquals(100, count("requests"));
+        assertEquals(2000, count("items"));
+        assertEquals(20000, count("bookings"));
+        assertTrue(count("comments") > 0);
+    }
+
+    @Test
+    void items_shouldBeConcentratedOnFewOwners() {
+        Long largest = jdbc.queryForObject(
+                "SELECT MAX(c) FROM (SELECT COUNT(*) c FROM items GROUP BY owner_id) t", Long.class);
+        // a uniform spread would give 40 items per owner
+        assertTrue(largest > 400, "largest owner has " + largest + " items");
+    }
+
+    @Test
+    void bookings_shouldSpanHistoryWithoutApprovedOverlaps() {
+        LocalDateTime earliest = jdbc.queryForObject("SELECT MIN(start_date) FROM bookings", LocalDateTime.class);
+        assertTrue(earliest.isBefore(LocalDateTime.parse(ANCHOR).minusYears(2)));
+
+        Long overlaps = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM bookings a JOIN bookings b
+                  ON a.item_id = b.item_id AND a.id < b.id
+                 AND a.start_date < b.end_date AND b.start_date < a.end_date
+                WHERE a.status = 'APPROVED' AND b.status = 'APPROVED'
+                """, Long.class);
+        assertEquals(0, overlaps);
+    }
+
+    @Test
+    void sequences_shouldContinuePastGeneratedIds() {
+        UserDto created = userService.create(UserDto.builder().name("Late").email("late@example.com").build());
+        assertTrue(created.getId() > 500);
+        userService.delete(created.getId());
+    }
+
+    @Test
+    void rerun_shouldReproduceTheSameDataForTheSameSeedAndAnchor() throws Exception {
+        Long before = jdbc.queryForObject(FINGERPRINT, Long.class);
+
+        new DatasetGenerator(dataSource, context, 42, ANCHOR, 500, 50, 100, 2000, 20000,
+                1.2, 0.9, 3, 0.2, true, false, false).run(null);
+
+        assertEquals(before, jdbc.queryForObject(FINGERPRINT, Long.class));
+        assertEquals(20000, count("bookings"));
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
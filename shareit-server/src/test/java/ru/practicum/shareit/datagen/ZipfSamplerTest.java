@@ -0,0 +1,53 @@
+package ru.practicum.shareit.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfSamplerTest {
+
+    @Test
+    void sample_shouldFollowPowerLaw() {
+        int n = 1000;
+        double exponent = 1.2;
+        ZipfSampler sampler = new ZipfSampler(n, exponent);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[n + 1];
+        int draws = 1_000_000;
+        for (int i = 0; i < draws; i++) {
+            int k = sampler.sample(random);
+            assertTrue(k >= 1 && k <= n);
+            counts[k]++;
+        }
+
+        double norm = 0;
+        for (int k = 1; k <= n; k++) {
+            norm += Math.pow(k, -exponent);
+        }
+        for (int k : new int[]{1, 2, 10, 100}) {
+            double expected = Math.pow(k, -exponent) / norm;
+            double actual = (double) counts[k] / draws;
+            assertEquals(expected, actual, expected * 0.05, "rank " + k);
+        }
+    }
+
+    @Test
+    void sample_shouldRepeatForSameSeed() {
+        ZipfSampler sampler = new ZipfSampler(50_000, 0.9);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(sampler.sample(first), sampler.sample(second));
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectBadParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, 0));
+    }
+}
@@ -7,17 +7,26 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.CalendarIntervalDto;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCalendarDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +42,9 @@ class ItemControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private ItemImportService itemImportService;
+
     @Test
     void create_shouldReturnCreatedItem() throws Exception {
         ItemDto dto = ItemDto.builder()
@@ -106,14 +118,52 @@ class ItemControllerTest {
     @Test
     void search_shouldReturnItems() throws Exception {
         ItemDto dto = ItemDto.builder().id(1L).name("Saw").available(true).build();
-        when(itemService.search(anyString())).thenReturn(List.of(dto));
+        when(itemService.search("saw", null, 100)).thenReturn(new ItemPageDto(List.of(dto), "1"));
 
         mockMvc.perform(get("/items/search")
                         .param("text", "saw"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.NEXT_CURSOR_HEADER, "1"))
                 .andExpect(jsonPath("$[0].name", is("Saw")));
     }
 
+    @Test
+    void searchAvailable_shouldReturnItemsAndNextCursor() throws Exception {
+        ItemDto dto = ItemDto.builder().id(7L).name("Saw").available(true).build();
+        when(itemService.searchAvailable(LocalDateTime.of(2030, 1, 1, 10, 0), LocalDateTime.of(2030, 1, 2, 10, 0),
+                "saw", null, 1)).thenReturn(new ItemPageDto(List.of(dto), "7"));
+
+        mockMvc.perform(get("/items/available")
+                        .param("start", "2030-01-01T10:00:00")
+                        .param("end", "2030-01-02T10:00:00")
+                        .param("text", "saw")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.NEXT_CURSOR_HEADER, "7"))
+                .andExpect(jsonPath("$[0].id", is(7)));
+    }
+
+    @Test
+    void getCalendar_shouldReturnBusyAndFreeIntervals() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(3);
+        ItemCalendarDto calendar = ItemCalendarDto.builder()
+                .itemId(5L)
+                .from(from)
+                .to(to)
+                .busy(List.of(new CalendarIntervalDto(from, from.plusDays(1))))
+                .free(List.of(new CalendarIntervalDto(from.plusDays(1), to)))
+                .build();
+        when(itemService.getCalendar(5L, from, to)).thenReturn(calendar);
+
+        mockMvc.perform(get("/items/5/calendar")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-04T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.busy[0].end", is("2030-01-02T00:00:00")))
+                .andExpect(jsonPath("$.free[0].start", is("2030-01-02T00:00:00")));
+    }
+
     @Test
     void addComment_shouldReturnSavedComment() throws Exception {
         CommentDto commentDto = CommentDto.builder()
@@ -134,4 +184,52 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.text", is("Great tool")))
                 .andExpect(jsonPath("$.authorName", is("John")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void importItems_shouldStreamJsonArrayRows() throws Exception {
+        List<String> names = new ArrayList<>();
+        when(itemImportService.importItems(eq(1L), any())).thenAnswer(invocation -> {
+            Iterator<ItemDto> rows = invocation.getArgument(1);
+            rows.forEachRemaining(row -> names.add(row.getName()));
+            return List.of(ItemImportResultDto.builder().index(0).id(10L).build(),
+                    ItemImportResultDto.builder().index(1).error("Item description must not be blank").build());
+        });
+
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"Drill\",\"available\":true},{\"name\":\"Saw\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(10)))
+                .andExpect(jsonPath("$[1].error", is("Item description must not be blank")));
+
+        assertEquals(List.of("Drill", "Saw"), names);
+    }
+
+    @Test
+    void importItems_shouldStreamNdjsonRows() throws Exception {
+        List<String> names = new ArrayList<>();
+        when(itemImportService.importItems(eq(1L), any())).thenAnswer(invocation -> {
+            Iterator<ItemDto> rows = invocation.getArgument(1);
+            rows.forEachRemaining(row -> names.add(row.getName()));
+            return List.of();
+        });
+
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"Drill\"}\n{\"name\":\"Saw\"}\n{\"name\":\"Ladder\"}\n"))
+                .andExpect(status().isOk());
+
+        assertEquals(List.of("Drill", "Saw", "Ladder"), names);
+    }
+
+    @Test
+    void importItems_shouldRejectPayloadThatIsNotJson() throws Exception {
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("not json"))
+                .andExpect(status().isBadRequest());
+    }
+}
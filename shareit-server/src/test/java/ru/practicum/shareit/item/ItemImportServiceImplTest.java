@@ -0,0 +1,175 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.error.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImportServiceImplTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ItemRequestRepository itemRequestRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemImportServiceImpl service;
+    private User owner;
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        service = new ItemImportServiceImpl(itemRepository, userRepository, itemRequestRepository, entityManager,
+                new TransactionTemplate(transactionManager), eventPublisher);
+        owner = new User(1L, "Alice", "alice@mail.com");
+    }
+
+    @Test
+    void shouldReportPerRowResultsAndValidateRequestsInOneQuery() {
+        ItemRequest request = new ItemRequest();
+        request.setId(7L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(itemRequestRepository.findAllById(Set.of(7L, 8L))).thenReturn(List.of(request));
+        stubSaveAllAssigningIds();
+
+        List<ItemImportResultDto> results = service.importItems(1L, List.of(
+                item("Drill", 7L),
+                item(" ", null),
+                item("Saw", 8L),
+                item("Hammer", null)).iterator());
+
+        assertEquals(4, results.size());
+        assertEquals(100L, results.get(0).getId());
+        assertEquals("Item name must not be blank", results.get(1).getError());
+        assertEquals("Request not found with id: 8", results.get(2).getError());
+        assertEquals(101L, results.get(3).getId());
+        assertEquals(List.of(0, 1, 2, 3), results.stream().map(ItemImportResultDto::getIndex).toList());
+        verify(itemRequestRepository, times(1)).findAllById(any());
+        verify(itemRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(ItemChangedEvent.class));
+    }
+
+    @Test
+    void shouldWriteInChunksAndClearPersistenceContext() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        stubSaveAllAssigningIds();
+        Iterator<ItemDto> rows = IntStream.range(0, ItemImportServiceImpl.CHUNK_SIZE + 1)
+                .mapToObj(i -> item("Item " + i, null))
+                .iterator();
+
+        List<ItemImportResultDto> results = service.importItems(1L, rows);
+
+        assertEquals(ItemImportServiceImpl.CHUNK_SIZE + 1, results.size());
+        assertTrue(results.stream().allMatch(r -> r.getError() == null));
+        verify(itemRepository, times(2)).saveAll(anyList());
+        verify(itemRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(userRepository, times(1)).findById(1L);
+        verifyNoInteractions(itemRequestRepository);
+    }
+
+    @Test
+    void shouldStopAtMalformedRowAndKeepEarlierRows() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        stubSaveAllAssigningIds();
+        Iterator<ItemDto> rows = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public ItemDto next() {
+                if (read++ == 0) {
+                    return item("Drill", null);
+                }
+                throw new IllegalStateException("Unexpected character");
+            }
+        };
+
+        List<ItemImportResultDto> results = service.importItems(1L, rows);
+
+        assertEquals(2, results.size());
+        assertEquals(100L, results.get(0).getId());
+        assertEquals(1, results.get(1).getIndex());
+        assertTrue(results.get(1).getError().startsWith("Malformed row"));
+    }
+
+    @Test
+    void shouldFailValidRowsOfChunkRejectedByDatabase() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        doThrow(new DataIntegrityViolationException("constraint")).when(itemRepository).flush();
+
+        List<ItemImportResultDto> results = service.importItems(1L,
+                List.of(item("Drill", null), item(null, null)).iterator());
+
+        assertTrue(results.get(0).getError().startsWith("Rejected by database"));
+        assertNull(results.get(0).getId());
+        assertEquals("Item name must not be blank", results.get(1).getError());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowWhenOwnerNotFound() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> service.importItems(1L, List.<ItemDto>of().iterator()));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubSaveAllAssigningIds() {
+        when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Item> items = new ArrayList<>((List<Item>) invocation.getArgument(0));
+            items.forEach(item -> item.setId(ids.getAndIncrement()));
+            return items;
+        });
+    }
+
+    private static ItemDto item(String name, Long requestId) {
+        return ItemDto.builder()
+                .id(999L)
+                .name(name)
+                .description("Some description")
+                .available(true)
+                .requestId(requestId)
+                .build();
+    }
+}
@@ -3,24 +3,41 @@ package ru.practicum.shareit.item;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import ru.practicum.shareit.booking.BookingChangedEvent;
+import ru.practicum.shareit.booking.BookingInterval;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.error.ForbiddenException;
 import ru.practicum.shareit.error.NotFoundException;
 import ru.practicum.shareit.error.ValidationException;
+import ru.practicum.shareit.item.cache.ItemCardCache;
+import ru.practicum.shareit.item.calendar.ItemCalendarCache;
+import ru.practicum.shareit.item.dto.CalendarIntervalDto;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCalendarDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemPageDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +58,16 @@ class ItemServiceImplTest {
     private CommentRepository commentRepository;
     @Mock
     private ItemRequestRepository itemRequestRepository;
+    @Mock
+    private ItemSearchIndex searchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private ItemCardCache itemCardCache = new ItemCardCache(100, Duration.ofMinutes(5));
+    @Spy
+    private ItemCalendarCache itemCalendarCache = new ItemCalendarCache(100, Duration.ofHours(1));
 
     @InjectMocks
     private ItemServiceImpl service;
@@ -115,6 +142,37 @@ class ItemServiceImplTest {
         verify(itemRepository).save(any());
     }
 
+    @Test
+    void shouldPublishBeforeAndAfterSnapshotsOnUpdate() {
+        ItemDto updateDto = ItemDto.builder().name("Hammer").available(false).build();
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemRepository.save(any())).thenReturn(item);
+
+        service.update(1L, 1L, updateDto);
+
+        ArgumentCaptor<ItemChangedEvent> captor = ArgumentCaptor.forClass(ItemChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        ItemChangedEvent event = captor.getValue();
+        assertEquals(1L, event.getItemId());
+        assertEquals("Drill", event.getBefore().getName());
+        assertTrue(event.getBefore().isAvailable());
+        assertEquals("Hammer", event.getAfter().getName());
+        assertFalse(event.getAfter().isAvailable());
+    }
+
+    @Test
+    void shouldPublishCreatedEventWithoutBeforeSnapshot() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(itemRepository.save(any())).thenReturn(item);
+
+        service.create(1L, itemDto);
+
+        ArgumentCaptor<ItemChangedEvent> captor = ArgumentCaptor.forClass(ItemChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertNull(captor.getValue().getBefore());
+        assertEquals("Cordless drill", captor.getValue().getAfter().getDescription());
+    }
+
     @Test
     void shouldThrowWhenUpdatingNotOwnerItem() {
         User another = new User(2L, "Bob", "b@mail.com");
@@ -149,6 +207,52 @@ class ItemServiceImplTest {
         assertEquals(1, result.getComments().size());
     }
 
+    @Test
+    void shouldServeRepeatedReadsFromCachedCard() {
+        User booker = new User(2L, "Bob", "b@mail.com");
+        LocalDateTime now = LocalDateTime.now();
+        Booking past = Booking.builder().id(10L).item(item).booker(booker).status(BookingStatus.APPROVED)
+                .start(now.minusDays(3)).end(now.minusDays(2)).build();
+        Booking future = Booking.builder().id(11L).item(item).booker(booker).status(BookingStatus.APPROVED)
+                .start(now.plusDays(2)).end(now.plusDays(3)).build();
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(commentRepository.findAllByItem(item)).thenReturn(List.of());
+        when(bookingRepository.findAllByItem(item)).thenReturn(List.of(past, future));
+
+        var forOwner = service.getById(1L, 1L);
+        var forOther = service.getById(1L, 2L);
+
+        assertEquals(10L, forOwner.getLastBooking().getId());
+        assertEquals(11L, forOwner.getNextBooking().getId());
+        assertNull(forOther.getLastBooking());
+        assertNull(forOther.getNextBooking());
+        verify(itemRepository, times(1)).findById(1L);
+        verify(bookingRepository, times(1)).findAllByItem(item);
+        // only the miss opened a transaction, and a read-only one
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void shouldPublishCommentAddedForItem() {
+        User booker = new User(2L, "Bob", "b@mail.com");
+        Comment saved = Comment.builder().id(9L).text("Nice").author(booker).item(item)
+                .created(LocalDateTime.now()).build();
+        when(userRepository.findById(2L)).thenReturn(Optional.of(booker));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(eq(2L), eq(1L),
+                eq(BookingStatus.APPROVED), any())).thenReturn(true);
+        when(commentRepository.save(any())).thenReturn(saved);
+
+        service.addComment(2L, 1L, CommentDto.builder().text("Nice").build());
+
+        ArgumentCaptor<CommentAddedEvent> captor = ArgumentCaptor.forClass(CommentAddedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(9L, captor.getValue().getCommentId());
+        assertEquals(1L, captor.getValue().getItemId());
+    }
+
     @Test
     void shouldThrowWhenItemNotFoundById() {
         when(itemRepository.findById(99L)).thenReturn(Optional.empty());
@@ -172,7 +276,7 @@ class ItemServiceImplTest {
     void shouldReturnItemsByOwner() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
         when(itemRepository.findAllByOwner(owner)).thenReturn(List.of(item));
-        when(commentRepository.findAllByItem(any())).thenReturn(List.of());
+        when(commentRepository.findAllByItem_IdIn(List.of(1L))).thenReturn(List.of());
 
         var result = service.getByOwner(1L);
 
@@ -180,6 +284,49 @@ class ItemServiceImplTest {
         verify(itemRepository).findAllByOwner(owner);
     }
 
+    @Test
+    void shouldLoadCommentsAndBookingsForAllOwnerItemsInBatch() {
+        User booker = new User(2L, "Bob", "b@mail.com");
+        Item other = Item.builder().id(2L).name("Saw").description("Hand saw").available(true).owner(owner).build();
+        LocalDateTime now = LocalDateTime.now();
+        Booking last = Booking.builder().id(10L).item(item).booker(booker)
+                .start(now.minusDays(3)).end(now.minusDays(2)).status(BookingStatus.APPROVED).build();
+        Booking next = Booking.builder().id(11L).item(other).booker(booker)
+                .start(now.plusDays(2)).end(now.plusDays(3)).status(BookingStatus.APPROVED).build();
+        Comment comment = Comment.builder().id(5L).text("Nice!").author(booker).item(other).created(now).build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(itemRepository.findAllByOwner(owner)).thenReturn(List.of(item, other));
+        when(commentRepository.findAllByItem_IdIn(List.of(1L, 2L))).thenReturn(List.of(comment));
+        when(bookingRepository.findLastBookings(eq(List.of(1L, 2L)), eq(BookingStatus.APPROVED), any()))
+                .thenReturn(List.of(last));
+        when(bookingRepository.findNextBookings(eq(List.of(1L, 2L)), eq(BookingStatus.APPROVED), any()))
+                .thenReturn(List.of(next));
+
+        var result = service.getByOwner(1L);
+
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getLastBooking().getId());
+        assertNull(result.get(0).getNextBooking());
+        assertTrue(result.get(0).getComments().isEmpty());
+        assertNull(result.get(1).getLastBooking());
+        assertEquals(11L, result.get(1).getNextBooking().getId());
+        assertEquals(1, result.get(1).getComments().size());
+        verify(commentRepository, never()).findAllByItem(any());
+        verify(bookingRepository, never()).findAllByItem(any());
+    }
+
+    @Test
+    void shouldNotQueryCommentsOrBookingsWhenOwnerHasNoItems() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(itemRepository.findAllByOwner(owner)).thenReturn(List.of());
+
+        var result = service.getByOwner(1L);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(commentRepository, bookingRepository);
+    }
+
     @Test
     void shouldThrowWhenOwnerNotExistsInGetByOwner() {
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
@@ -190,8 +337,9 @@ class ItemServiceImplTest {
     void shouldHandleOwnerItemsWithoutCommentsOrBookings() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
         when(itemRepository.findAllByOwner(owner)).thenReturn(List.of(item));
-        when(commentRepository.findAllByItem(any())).thenReturn(List.of());
-        when(bookingRepository.findAllByItem(any())).thenReturn(List.of());
+        when(commentRepository.findAllByItem_IdIn(any())).thenReturn(List.of());
+        when(bookingRepository.findLastBookings(any(), any(), any())).thenReturn(List.of());
+        when(bookingRepository.findNextBookings(any(), any(), any())).thenReturn(List.of());
 
         var result = service.getByOwner(1L);
 
@@ -201,25 +349,166 @@ class ItemServiceImplTest {
 
     @Test
     void shouldReturnEmptyListWhenSearchTextBlank() {
-        var result = service.search("  ");
+        var result = service.search("  ", null, 100).getItems();
         assertTrue(result.isEmpty());
         verifyNoInteractions(itemRepository);
     }
 
     @Test
     void shouldReturnEmptyListWhenSearchTextIsNull() {
-        var result = service.search(null);
+        var result = service.search(null, null, 100).getItems();
         assertTrue(result.isEmpty());
     }
 
     @Test
     void shouldSearchItems() {
         when(itemRepository.search("drill")).thenReturn(List.of(item));
-        var result = service.search("drill");
+        var result = service.search("drill", null, 100).getItems();
         assertEquals(1, result.size());
         verify(itemRepository).search("drill");
     }
 
+    @Test
+    void shouldSearchItemsWithRankedQueryInTrigramMode() {
+        ReflectionTestUtils.setField(service, "searchMode", ItemSearchMode.TRIGRAM);
+        when(itemRepository.searchRanked("drill")).thenReturn(List.of(item));
+
+        var result = service.search("drill", null, 100).getItems();
+
+        assertEquals(1, result.size());
+        verify(itemRepository, never()).search(any());
+    }
+
+    @Test
+    void shouldSearchItemsFromIndexInIndexMode() {
+        ReflectionTestUtils.setField(service, "searchMode", ItemSearchMode.INDEX);
+        Item other = Item.builder().id(7L).name("Drill bits").available(true).owner(owner).build();
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("dri")).thenReturn(new long[]{1L, 7L});
+        when(itemRepository.findAllById(List.of(1L, 7L))).thenReturn(List.of(other, item));
+
+        var result = service.search("dri", null, 100).getItems();
+
+        assertEquals(List.of(1L, 7L), result.stream().map(ItemDto::getId).toList());
+        verify(itemRepository, never()).search(any());
+    }
+
+    @Test
+    void shouldLoadOnlyOnePageOfIndexHitsAfterCursor() {
+        ReflectionTestUtils.setField(service, "searchMode", ItemSearchMode.INDEX);
+        Item third = Item.builder().id(9L).name("Drill press").available(true).owner(owner).build();
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("dri")).thenReturn(new long[]{1L, 7L, 9L, 12L});
+        when(itemRepository.findAllById(List.of(7L, 9L))).thenReturn(List.of(third, item));
+
+        ItemPageDto page = service.search("dri", "1", 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("9", page.getNextCursor());
+        verify(itemRepository).findAllById(List.of(7L, 9L));
+    }
+
+    @Test
+    void shouldReturnLastPageOfIndexHitsWithoutCursor() {
+        ReflectionTestUtils.setField(service, "searchMode", ItemSearchMode.INDEX);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("dri")).thenReturn(new long[]{1L, 7L});
+
+        ItemPageDto page = service.search("dri", "7", 2);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(itemRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void shouldFallBackToQueryWhileIndexIsBuilding() {
+        ReflectionTestUtils.setField(service, "searchMode", ItemSearchMode.INDEX);
+        when(searchIndex.isReady()).thenReturn(false);
+        when(itemRepository.search("drill")).thenReturn(List.of(item));
+
+        var result = service.search("drill", null, 100).getItems();
+
+        assertEquals(1, result.size());
+        verify(searchIndex, never()).search(any());
+    }
+
+    @Test
+    void shouldReturnFreeItemsWithNextCursorWhenMoreRowsExist() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        LocalDateTime end = start.plusDays(2);
+        Item other = Item.builder().id(7L).name("Drill bits").available(true).owner(owner).build();
+        when(itemRepository.findAvailableBetween(start, end, "drill", 0L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(item, other));
+
+        ItemPageDto page = service.searchAvailable(start, end, " drill ", null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(item.getId(), page.getItems().get(0).getId());
+        assertEquals(String.valueOf(item.getId()), page.getNextCursor());
+    }
+
+    @Test
+    void shouldContinueFreeItemSearchAfterCursor() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        LocalDateTime end = start.plusDays(2);
+        when(itemRepository.findAvailableBetween(start, end, "", 5L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(item));
+
+        ItemPageDto page = service.searchAvailable(start, end, null, "5", 10);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectInvalidAvailabilityWindow() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        assertThrows(ValidationException.class, () -> service.searchAvailable(start, start, null, null, 10));
+        assertThrows(ValidationException.class, () -> service.searchAvailable(start, start.plusDays(1), null, "x", 10));
+        assertThrows(ValidationException.class, () -> service.searchAvailable(start, start.plusDays(1), null, null, 0));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void shouldBuildCalendarOnceAndPatchItOnApproval() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        BookingInterval booked = mock(BookingInterval.class);
+        when(booked.getStart()).thenReturn(from.plusDays(1));
+        when(booked.getEnd()).thenReturn(from.plusDays(2));
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findApprovedIntervals(1L)).thenReturn(List.of(booked));
+
+        ItemCalendarDto first = service.getCalendar(1L, from, from.plusDays(5));
+        itemCalendarCache.onBookingChanged(new BookingChangedEvent(9L, 1L, BookingStatus.APPROVED,
+                from.plusDays(2), from.plusDays(3)));
+        ItemCalendarDto second = service.getCalendar(1L, from, from.plusDays(5));
+
+        assertEquals(List.of(new CalendarIntervalDto(from.plusDays(1), from.plusDays(2))), first.getBusy());
+        assertEquals(List.of(new CalendarIntervalDto(from.plusDays(1), from.plusDays(3))), second.getBusy());
+        assertEquals(List.of(new CalendarIntervalDto(from, from.plusDays(1)),
+                new CalendarIntervalDto(from.plusDays(3), from.plusDays(5))), second.getFree());
+        verify(bookingRepository, times(1)).findApprovedIntervals(1L);
+    }
+
+    @Test
+    void shouldThrowWhenCalendarItemNotFound() {
+        LocalDateTime from = LocalDateTime.now();
+        when(itemRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> service.getCalendar(99L, from, from.plusDays(1)));
+        verify(bookingRepository, never()).findApprovedIntervals(any());
+    }
+
+    @Test
+    void shouldRejectInvalidCalendarRange() {
+        LocalDateTime from = LocalDateTime.now();
+
+        assertThrows(ValidationException.class, () -> service.getCalendar(1L, from, from));
+        verifyNoInteractions(itemRepository, bookingRepository);
+    }
+
     @Test
     void shouldAddCommentWhenBookingExists() {
         CommentDto commentDto = new CommentDto(null, "Good item", null, null);
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.error.NotFoundException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallerLoadsTest {
+
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    void shouldLoadOnCallingThreadOutsideTheMapLock() throws Exception {
+        Thread caller = Thread.ofVirtual().unstarted(() ->
+                CallerLoads.get(cache, 1L, id -> {
+                    // another key in the same map must stay writable while this load is running
+                    cache.synchronous().put(2L, "other");
+                    return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+                }));
+        caller.start();
+        caller.join();
+
+        assertEquals("virtual", cache.synchronous().getIfPresent(1L));
+        assertEquals("other", cache.synchronous().getIfPresent(2L));
+    }
+
+    @Test
+    void concurrentCallersShouldShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = Thread.ofVirtual().start(() -> CallerLoads.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "card";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        String[] seen = new String[1];
+        Thread second = Thread.ofVirtual().start(() -> seen[0] = CallerLoads.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "second";
+        }));
+        release.countDown();
+        first.join();
+        second.join();
+
+        assertEquals(1, loads.get());
+        assertEquals("card", seen[0]);
+    }
+
+    @Test
+    void shouldRethrowLoaderExceptionAndRetryNextTime() {
+        assertThrows(NotFoundException.class, () -> CallerLoads.get(cache, 1L, id -> {
+            throw new NotFoundException("Item not found with id: " + id);
+        }));
+
+        assertEquals("card", CallerLoads.get(cache, 1L, id -> "card"));
+    }
+
+    @Test
+    void invalidationDuringLoadShouldDropTheLoadedValue() {
+        String loaded = CallerLoads.get(cache, 1L, id -> {
+            cache.synchronous().invalidate(id);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
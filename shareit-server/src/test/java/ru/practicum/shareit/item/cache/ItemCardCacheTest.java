@@ -0,0 +1,88 @@
+package ru.practicum.shareit.item.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.BookingChangedEvent;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.CommentAddedEvent;
+import ru.practicum.shareit.item.ItemChangedEvent;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCardCacheTest {
+
+    private ItemCardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ItemCardCache(100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldLoadOncePerItemUntilInvalidated() {
+        cache.get(1L, loader(null));
+        cache.get(1L, loader(null));
+        assertEquals(1, loads.get());
+
+        cache.onCommentAdded(new CommentAddedEvent(5L, 1L));
+        cache.get(1L, loader(null));
+        cache.onBookingChanged(new BookingChangedEvent(7L, 1L, BookingStatus.APPROVED, null, null));
+        cache.get(1L, loader(null));
+        cache.onItemChanged(new ItemChangedEvent(1L, null, null));
+        cache.get(1L, loader(null));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void shouldOnlyInvalidateTouchedItem() {
+        cache.get(1L, loader(null));
+        cache.get(2L, loader(null));
+
+        cache.onBookingChanged(new BookingChangedEvent(7L, 2L, BookingStatus.APPROVED, null, null));
+        cache.get(1L, loader(null));
+        cache.get(2L, loader(null));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shouldReloadOnceLastOrNextBookingGoesStale() {
+        cache.get(1L, loader(LocalDateTime.now().minusSeconds(1)));
+        cache.get(1L, loader(LocalDateTime.now().minusSeconds(1)));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldExposeBookingsOnlyToOwnerAndReturnCopies() {
+        BookingDto last = BookingDto.builder().id(3L).build();
+        ItemDto item = ItemDto.builder().id(1L).name("Drill").ownerId(10L).comments(List.of()).build();
+        ItemCard card = new ItemCard(item, 10L, last, null, null);
+
+        ItemDto forOwner = card.toDto(10L);
+        ItemDto forOther = card.toDto(11L);
+        forOwner.setName("Changed");
+
+        assertEquals(3L, forOwner.getLastBooking().getId());
+        assertNull(forOther.getLastBooking());
+        assertEquals("Drill", card.toDto(10L).getName());
+    }
+
+    private Function<Long, ItemCard> loader(LocalDateTime staleAt) {
+        return id -> {
+            loads.incrementAndGet();
+            return new ItemCard(ItemDto.builder().id(id).build(), 10L, null, null, staleAt);
+        };
+    }
+}
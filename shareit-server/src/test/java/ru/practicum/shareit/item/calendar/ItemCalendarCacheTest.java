@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item.calendar;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.BookingChangedEvent;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCalendarCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private final ItemCalendarCache cache = new ItemCalendarCache(100, Duration.ofHours(1));
+
+    @Test
+    void get_shouldLoadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return ItemCalendar.of(List.of());
+        });
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return ItemCalendar.of(List.of());
+        });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onBookingChanged_shouldPatchCachedCalendarWhenApproved() {
+        cache.get(1L, id -> ItemCalendar.of(List.of()));
+
+        cache.onBookingChanged(new BookingChangedEvent(5L, 1L, BookingStatus.APPROVED, START, START.plusDays(1)));
+
+        ItemCalendar calendar = cache.get(1L, id -> fail("calendar should stay cached"));
+        assertEquals(1, calendar.busyBetween(START, START.plusDays(2)).size());
+    }
+
+    @Test
+    void onBookingChanged_shouldIgnoreBookingsThatAreNotApproved() {
+        cache.get(1L, id -> ItemCalendar.of(List.of()));
+
+        cache.onBookingChanged(new BookingChangedEvent(5L, 1L, BookingStatus.WAITING, START, START.plusDays(1)));
+
+        assertEquals(0, cache.get(1L, id -> fail("calendar should stay cached")).size());
+    }
+
+    @Test
+    void onBookingChanged_shouldNotLoadAbsentCalendar() {
+        cache.onBookingChanged(new BookingChangedEvent(5L, 2L, BookingStatus.APPROVED, START, START.plusDays(1)));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(2L, id -> {
+            loads.incrementAndGet();
+            return ItemCalendar.of(List.of());
+        });
+        assertEquals(1, loads.get());
+    }
+}
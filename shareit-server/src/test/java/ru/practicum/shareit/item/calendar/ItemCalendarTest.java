@@ -0,0 +1,79 @@
+package ru.practicum.shareit.item.calendar;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.BookingInterval;
+import ru.practicum.shareit.item.dto.CalendarIntervalDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCalendarTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void of_shouldMergeOverlappingAndTouchingIntervals() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(
+                interval(0, 2), interval(1, 3), interval(3, 4), interval(6, 7)));
+
+        assertEquals(2, calendar.size());
+        assertEquals(List.of(dto(0, 4), dto(6, 7)), calendar.busyBetween(day(0), day(10)));
+    }
+
+    @Test
+    void busyBetween_shouldClipIntervalsToWindow() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(interval(0, 4), interval(6, 9)));
+
+        assertEquals(List.of(dto(2, 4), dto(6, 7)), calendar.busyBetween(day(2), day(7)));
+        assertTrue(calendar.busyBetween(day(4), day(6)).isEmpty());
+    }
+
+    @Test
+    void freeBetween_shouldReturnGapsAroundBusyIntervals() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(interval(2, 3), interval(5, 6)));
+
+        assertEquals(List.of(dto(0, 2), dto(3, 5), dto(6, 8)), calendar.freeBetween(day(0), day(8)));
+        assertEquals(List.of(), calendar.freeBetween(day(2), day(3)));
+    }
+
+    @Test
+    void with_shouldMergeNewIntervalWithoutChangingOriginal() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(interval(0, 2), interval(4, 6), interval(8, 9)));
+
+        ItemCalendar patched = calendar.with(day(1), day(5));
+
+        assertEquals(List.of(dto(0, 6), dto(8, 9)), patched.busyBetween(day(0), day(10)));
+        assertEquals(3, calendar.size());
+    }
+
+    @Test
+    void with_shouldSpanSeveralIntervals() {
+        ItemCalendar calendar = ItemCalendar.of(List.of(interval(1, 2), interval(3, 4), interval(5, 6)));
+
+        assertEquals(List.of(dto(0, 7)), calendar.with(day(0), day(7)).busyBetween(day(0), day(10)));
+    }
+
+    private static BookingInterval interval(int startDay, int endDay) {
+        return new BookingInterval() {
+            @Override
+            public LocalDateTime getStart() {
+                return day(startDay);
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return day(endDay);
+            }
+        };
+    }
+
+    private static CalendarIntervalDto dto(int startDay, int endDay) {
+        return new CalendarIntervalDto(day(startDay), day(endDay));
+    }
+
+    private static LocalDateTime day(int offset) {
+        return DAY.plusDays(offset);
+    }
+}
@@ -0,0 +1,164 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.ItemChangedEvent;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemSearchMode;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ItemSearchIndex(itemRepository, ItemSearchMode.INDEX);
+    }
+
+    @Test
+    void shouldBuildFromRepositoryAndAnswerWithAndPrefixSemantics() {
+        when(itemRepository.findAvailableTextAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                view(1L, "Cordless drill", "Bosch, 18V"),
+                view(2L, "Drill bits", "Set for wood"),
+                view(3L, "Hammer", "Claw hammer")));
+
+        index.build();
+
+        assertTrue(index.isReady());
+        assertArrayEquals(new long[]{1L, 2L}, index.search("DRI"));
+        assertArrayEquals(new long[]{1L}, index.search("drill bosch"));
+        assertArrayEquals(new long[]{3L}, index.search("ham"));
+        assertArrayEquals(new long[0], index.search("drill hammer"));
+        assertArrayEquals(new long[0], index.search("  ,  "));
+    }
+
+    @Test
+    void shouldApplyIncrementalChanges() {
+        index.build();
+
+        index.onItemChanged(new ItemChangedEvent(5L, null, snapshot("Saw", "Hand saw", true)));
+        assertArrayEquals(new long[]{5L}, index.search("saw"));
+
+        index.onItemChanged(new ItemChangedEvent(5L, snapshot("Saw", "Hand saw", true),
+                snapshot("Jigsaw", "Electric", true)));
+        assertArrayEquals(new long[0], index.search("hand"));
+        assertArrayEquals(new long[]{5L}, index.search("elec"));
+
+        index.onItemChanged(new ItemChangedEvent(5L, snapshot("Jigsaw", "Electric", true),
+                snapshot("Jigsaw", "Electric", false)));
+        assertArrayEquals(new long[0], index.search("jigsaw"));
+    }
+
+    @Test
+    void shouldMergeEveryTermUnderAShortPrefix() {
+        when(itemRepository.findAvailableTextAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                view(1L, "Saw", "Sander"),
+                view(2L, "Sanding block", null),
+                view(3L, "Drill", "Sandpaper included"),
+                view(4L, "Sandal", "Sand"),
+                view(5L, "Hammer", null)));
+
+        index.build();
+
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L}, index.search("san"));
+        assertArrayEquals(new long[]{3L}, index.search("sand d"));
+        assertArrayEquals(new long[]{1L}, index.search("saw"));
+    }
+
+    @Test
+    void shouldReplayChangesCommittedWhileBuilding() {
+        // the page is read before the changes below commit, so it still holds the old texts
+        when(itemRepository.findAvailableTextAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onItemChanged(new ItemChangedEvent(1L, snapshot("Cordless drill", "Bosch", true),
+                    snapshot("Cordless drill", "Bosch", false)));
+            index.onItemChanged(new ItemChangedEvent(2L, snapshot("Drill bits", "Set for wood", true),
+                    snapshot("Saw blades", "Set for wood", true)));
+            index.onItemChanged(new ItemChangedEvent(4L, null, snapshot("Hammer drill", null, true)));
+            assertFalse(index.isReady());
+            return List.of(
+                    view(1L, "Cordless drill", "Bosch"),
+                    view(2L, "Drill bits", "Set for wood"));
+        });
+
+        index.build();
+
+        assertTrue(index.isReady());
+        assertArrayEquals(new long[]{4L}, index.search("drill"));
+        assertArrayEquals(new long[0], index.search("bosch"));
+        assertArrayEquals(new long[]{2L}, index.search("blades"));
+        assertArrayEquals(new long[]{2L}, index.search("wood"));
+    }
+
+    @Test
+    void shouldApplyChangesTheBuildAlreadySawOnlyOnce() {
+        when(itemRepository.findAvailableTextAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onItemChanged(new ItemChangedEvent(1L, snapshot("Drill", null, true),
+                    snapshot("Saw", null, true)));
+            return List.of(view(1L, "Saw", null));
+        });
+
+        index.build();
+
+        assertArrayEquals(new long[0], index.search("drill"));
+        assertArrayEquals(new long[]{1L}, index.search("saw"));
+    }
+
+    @Test
+    void shouldStayEmptyWhenDisabled() {
+        index = new ItemSearchIndex(itemRepository, ItemSearchMode.LIKE);
+
+        index.build();
+        index.onItemChanged(new ItemChangedEvent(5L, null, snapshot("Saw", null, true)));
+
+        assertFalse(index.isReady());
+        assertArrayEquals(new long[0], index.search("saw"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void shouldRoundTripPostingListsWithLargeGaps() {
+        long[] ids = {1L, 2L, 130L, 70_000L, 5_000_000_000L};
+        PostingList list = PostingList.of(ids, ids.length);
+
+        assertArrayEquals(ids, list.toArray());
+        assertEquals(5, list.size());
+    }
+
+    private static ItemChangedEvent.Snapshot snapshot(String name, String description, boolean available) {
+        return new ItemChangedEvent.Snapshot(name, description, available);
+    }
+
+    private static ItemTextView view(Long id, String name, String description) {
+        return new ItemTextView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
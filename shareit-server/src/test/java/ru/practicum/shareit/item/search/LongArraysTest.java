@@ -0,0 +1,47 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class LongArraysTest {
+
+    @Test
+    void unionAll_shouldMergeSortedListsWithoutDuplicates() {
+        long[] result = LongArrays.unionAll(List.of(
+                new long[]{1, 4, 9},
+                new long[]{},
+                new long[]{2, 4, 10},
+                new long[]{1, 3, 9, 11}));
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 9, 10, 11}, result);
+    }
+
+    @Test
+    void unionAll_shouldReturnEmptyForEmptyLists() {
+        assertArrayEquals(new long[0], LongArrays.unionAll(List.of(new long[]{}, new long[]{})));
+    }
+
+    @Test
+    void unionAll_shouldMatchASortedSetOfAllIds() {
+        Random random = new Random(7);
+        List<long[]> lists = new ArrayList<>();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int list = 0; list < 40; list++) {
+            TreeSet<Long> ids = new TreeSet<>();
+            int size = random.nextInt(200);
+            for (int i = 0; i < size; i++) {
+                ids.add((long) random.nextInt(5000));
+            }
+            expected.addAll(ids);
+            lists.add(ids.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), LongArrays.unionAll(lists));
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TermPostingsTest {
+
+    @Test
+    void shouldOverlayAddsAndRemovalsOnTheBase() {
+        TermPostings term = new TermPostings(PostingList.of(new long[]{1L, 2L, 130L, 5_000_000_000L}, 4));
+
+        assertTrue(term.add(3L));
+        assertTrue(term.add(2L));
+        assertFalse(term.remove(130L));
+        assertFalse(term.remove(7L));
+
+        assertArrayEquals(new long[]{1L, 2L, 3L, 5_000_000_000L}, term.toArray());
+
+        assertTrue(term.add(130L));
+        assertFalse(term.remove(3L));
+        assertArrayEquals(new long[]{1L, 2L, 130L, 5_000_000_000L}, term.toArray());
+    }
+
+    @Test
+    void shouldStayConsistentAcrossCompactions() {
+        TermPostings term = new TermPostings(PostingList.of(LongStream.range(0, 1_000).toArray(), 1_000));
+        TreeSet<Long> expected = new TreeSet<>();
+        LongStream.range(0, 1_000).forEach(expected::add);
+
+        for (long id = 0; id < 3_000; id += 3) {
+            term.remove(id);
+            expected.remove(id);
+            term.add(id + 1_000);
+            expected.add(id + 1_000);
+        }
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), term.toArray());
+    }
+
+    @Test
+    void shouldRetireOnceEmptyAndRefuseLaterChanges() {
+        TermPostings term = new TermPostings(PostingList.of(new long[]{4L, 9L}, 2));
+        term.add(11L);
+
+        assertFalse(term.remove(4L));
+        assertFalse(term.remove(11L));
+        assertTrue(term.remove(9L));
+
+        assertArrayEquals(new long[0], term.toArray());
+        assertFalse(term.add(5L));
+        assertFalse(term.remove(5L));
+    }
+}
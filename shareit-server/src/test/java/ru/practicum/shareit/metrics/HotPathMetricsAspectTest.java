@@ -0,0 +1,106 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.error.NotFoundException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HotPathMetricsAspectTest {
+
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+
+    private UserDto owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.create(UserDto.builder()
+                .name("Owner")
+                .email("metrics-" + System.nanoTime() + "@mail.com")
+                .build());
+        for (int i = 0; i < 3; i++) {
+            itemService.create(owner.getId(), ItemDto.builder()
+                    .name("Drill " + i).description("Power drill").available(true).build());
+        }
+    }
+
+    @Test
+    void serviceCall_shouldRecordLatencyAndRows() {
+        Timer timer = serviceTimer("getByOwner", "success");
+        DistributionSummary rows = summary(HotPathMetricsAspect.SERVICE_ROWS, "service", "ItemServiceImpl",
+                "getByOwner");
+        long calls = timer == null ? 0 : timer.count();
+        double total = rows == null ? 0 : rows.totalAmount();
+
+        itemService.getByOwner(owner.getId());
+
+        assertEquals(calls + 1, serviceTimer("getByOwner", "success").count());
+        assertEquals(total + 3, summary(HotPathMetricsAspect.SERVICE_ROWS, "service", "ItemServiceImpl",
+                "getByOwner").totalAmount());
+    }
+
+    @Test
+    void failedServiceCall_shouldBeTaggedWithException() {
+        Timer before = serviceTimer("getById", "NotFoundException");
+        long calls = before == null ? 0 : before.count();
+
+        assertThrows(NotFoundException.class, () -> itemService.getById(-1L, owner.getId()));
+
+        assertEquals(calls + 1, serviceTimer("getById", "NotFoundException").count());
+    }
+
+    @Test
+    void repositoryCall_shouldRecordRowsPerRepository() {
+        itemService.getByOwner(owner.getId());
+
+        assertNotNull(summary(HotPathMetricsAspect.REPOSITORY_ROWS, "repository", "ItemRepository",
+                "findAllByOwner"));
+        assertNotNull(registry.find("spring.data.repository.invocations")
+                .tag("repository", "ItemRepository")
+                .tag("method", "findAllByOwner")
+                .timer());
+    }
+
+    @Test
+    void flagsAndCounts_shouldNotCountAsRows() {
+        userService.existsById(owner.getId());
+
+        assertNull(summary(HotPathMetricsAspect.SERVICE_ROWS, "service", "UserServiceImpl", "existsById"));
+        assertNotNull(registry.find(HotPathMetricsAspect.SERVICE_TIMER)
+                .tag("service", "UserServiceImpl")
+                .tag("method", "existsById")
+                .timer());
+    }
+
+    private Timer serviceTimer(String method, String outcome) {
+        return registry.find(HotPathMetricsAspect.SERVICE_TIMER)
+                .tag("service", "ItemServiceImpl")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private DistributionSummary summary(String name, String ownerTag, String owner, String method) {
+        return registry.find(name).tag(ownerTag, owner).tag("method", method).summary();
+    }
+}
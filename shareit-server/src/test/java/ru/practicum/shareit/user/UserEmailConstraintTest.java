@@ -0,0 +1,39 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.user.model.User;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the constraint name comes from the database's own error, so it is checked against a real one
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserEmailConstraintTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void duplicateEmailShouldBeRecognised() {
+        userRepository.saveAndFlush(new User(null, "Ann", "ann@mail.ru"));
+
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(new User(null, "Other Ann", "ann@mail.ru")));
+
+        assertTrue(UserServiceImpl.isDuplicateEmail(e));
+    }
+
+    @Test
+    void missingNameShouldNotBeTakenForDuplicateEmail() {
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(new User(null, null, "bob@mail.ru")));
+
+        assertFalse(UserServiceImpl.isDuplicateEmail(e));
+    }
+}
@@ -1,16 +1,19 @@
 package ru.practicum.shareit.user;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.error.ConflictException;
 import ru.practicum.shareit.error.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,22 +41,49 @@ class UserServiceImplTest {
 
     @Test
     void create_shouldSaveUser_whenEmailIsUnique() {
-        when(userRepository.findAll()).thenReturn(List.of());
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.existsByEmail("john@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
         UserDto result = userService.create(userDto);
 
         assertEquals(userDto.getName(), result.getName());
         assertEquals(userDto.getEmail(), result.getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userRepository, never()).findAll();
     }
 
     @Test
     void create_shouldThrowConflict_whenEmailAlreadyExists() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.existsByEmail("john@example.com")).thenReturn(true);
 
         assertThrows(ConflictException.class, () -> userService.create(userDto));
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenUniqueConstraintFailsOnRace() {
+        when(userRepository.existsByEmail("john@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation("PUBLIC.USERS_EMAIL_KEY_INDEX_4"));
+
+        assertThrows(ConflictException.class, () -> userService.create(userDto));
+    }
+
+    @Test
+    void create_shouldRethrowOtherConstraintViolations() {
+        when(userRepository.existsByEmail("john@example.com")).thenReturn(false);
+        DataIntegrityViolationException notNull = violation(null);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(notNull);
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class, () -> userService.create(userDto)));
+    }
+
+    @Test
+    void update_shouldRethrowViolationOfAnotherConstraint() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation("users_pkey"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userService.update(1L, new UserDto(null, "Renamed", null)));
     }
 
     @Test
@@ -62,14 +92,14 @@ class UserServiceImplTest {
         UserDto updateDto = new UserDto(null, "Updated", "updated@example.com");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.findAll()).thenReturn(List.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+        when(userRepository.existsByEmail("updated@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(updatedUser);
 
         UserDto result = userService.update(1L, updateDto);
 
         assertEquals("Updated", result.getName());
         assertEquals("updated@example.com", result.getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -83,16 +113,17 @@ class UserServiceImplTest {
     void update_shouldThrowConflict_whenEmailAlreadyUsedByAnotherUser() {
         UserDto updateDto = new UserDto(null, "Another", "someone@example.com");
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.findAll()).thenReturn(List.of(user, new User(2L, "User2", "someone@example.com")));
+        when(userRepository.existsByEmail("someone@example.com")).thenReturn(true);
 
         assertThrows(ConflictException.class, () -> userService.update(1L, updateDto));
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void update_shouldOnlyUpdateName_whenEmailIsNull() {
         UserDto updateDto = new UserDto(null, "NewName", null);
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
         UserDto result = userService.update(1L, updateDto);
 
@@ -157,4 +188,9 @@ class UserServiceImplTest {
 
         assertFalse(userService.existsById(1L));
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException(), constraintName));
+    }
+}
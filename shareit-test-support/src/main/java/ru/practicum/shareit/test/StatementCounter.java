@@ -0,0 +1,64 @@
+package ru.practicum.shareit.test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// counts statements per thread, so a service call made from the test thread sees only its own statements
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[4]);
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    public static StatementCounts current() {
+        int[] counts = COUNTS.get();
+        return StatementCounts.of(counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    public static StatementCounts count(Runnable call) {
+        reset();
+        call.run();
+        return current();
+    }
+
+    public static <T> StatementCounts count(Supplier<T> call) {
+        return count((Runnable) call::get);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int[] counts = COUNTS.get();
+        for (QueryInfo queryInfo : queryInfoList) {
+            String query = queryInfo.getQuery();
+            // pooled id blocks are fetched once per allocation, so counting them would depend on test order
+            if (isSequenceCall(query)) {
+                continue;
+            }
+            switch (QueryUtils.getQueryType(query)) {
+                case SELECT -> counts[0]++;
+                case INSERT -> counts[1]++;
+                case UPDATE -> counts[2]++;
+                case DELETE -> counts[3]++;
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static boolean isSequenceCall(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        return lower.contains("next value for") || lower.contains("nextval(");
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.test;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode
+public class StatementCounts {
+
+    private final int select;
+    private final int insert;
+    private final int update;
+    private final int delete;
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete;
+    }
+}